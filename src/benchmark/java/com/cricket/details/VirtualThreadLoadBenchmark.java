@@ -0,0 +1,156 @@
+package com.cricket.details;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.cricket.details.model.AuthResponse;
+import com.cricket.details.model.Score;
+import com.cricket.details.model.User;
+import com.cricket.details.repository.ScoreRepository;
+import com.cricket.details.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Runs the same read workload against the application with
+ * {@code spring.threads.virtual.enabled} off and on and reports throughput
+ * and p99 latency for each. Run with {@code ./gradlew benchmark}; it reports
+ * numbers and asserts nothing.
+ * <p>
+ * Clients page through one user's scores over HTTP with a JWT, so every
+ * request passes the security filter, the user lookup and a JPA query. Scores
+ * are seeded through the repository and the Kafka listener is off, so no
+ * broker is needed. Both runs use the same connection pool size, which makes
+ * the request threads the only difference.
+ * </p>
+ */
+class VirtualThreadLoadBenchmark {
+
+    private static final int CLIENTS = 400;
+    private static final int SEEDED_SCORES = 2_000;
+    private static final Duration WARM_UP = Duration.ofSeconds(5);
+    private static final Duration MEASURE = Duration.ofSeconds(15);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("getScores() - report throughput and p99 with platform and virtual request threads")
+    void getScores_ReportPlatformVersusVirtualThreads() throws Exception {
+        for (boolean virtualThreads : new boolean[] { false, true }) {
+            Result result = run(virtualThreads);
+            System.out.printf("virtual threads=%s: %d clients, %.0f req/s, p50=%.1f ms, p99=%.1f ms, errors=%d%n",
+                    virtualThreads, CLIENTS, result.throughput(), result.p50Millis(), result.p99Millis(),
+                    result.errors());
+        }
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(DetailsApplication.class)
+                .properties("server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.datasource.url=jdbc:h2:mem:load-" + virtualThreads + ";DB_CLOSE_DELAY=-1",
+                        "spring.datasource.hikari.maximum-pool-size=20",
+                        "spring.jmx.enabled=false",
+                        "app.scores.view.listenerEnabled=false",
+                        "app.outbox.fastPath=false",
+                        "logging.level.root=WARN")
+                .run()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String baseUrl = "http://localhost:" + port;
+            HttpClient client = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .build();
+            String token = register(client, baseUrl);
+            seed(context);
+
+            HttpRequest page = HttpRequest.newBuilder(URI.create(baseUrl + "/scores?limit=50"))
+                    .header("Authorization", "Bearer " + token).GET().build();
+            drive(client, page, WARM_UP);
+            return drive(client, page, MEASURE);
+        }
+    }
+
+    private String register(HttpClient client, String baseUrl) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/register"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"loadtest\",\"password\":\"loadtest123\"}"))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        return objectMapper.readValue(response.body(), AuthResponse.class).token();
+    }
+
+    private static void seed(ConfigurableApplicationContext context) {
+        User user = context.getBean(UserRepository.class).findByUsername("loadtest").orElseThrow();
+        context.getBean(ScoreRepository.class).saveAll(IntStream.range(0, SEEDED_SCORES)
+                .mapToObj(i -> new Score(null, i % 150, i % 3 == 0 ? "Loss" : "Win", "M" + i, user))
+                .toList());
+    }
+
+    private static Result drive(HttpClient client, HttpRequest request, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<ClientResult>> clients = new ArrayList<>(CLIENTS);
+        long started = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < CLIENTS; c++) {
+                clients.add(executor.submit(() -> {
+                    long[] latencies = new long[1024];
+                    int count = 0;
+                    long errors = 0;
+                    while (System.nanoTime() < deadline) {
+                        long sent = System.nanoTime();
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            errors++;
+                            continue;
+                        }
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        }
+                        latencies[count++] = System.nanoTime() - sent;
+                    }
+                    return new ClientResult(Arrays.copyOf(latencies, count), errors);
+                }));
+            }
+        }
+        long elapsed = System.nanoTime() - started;
+
+        List<Long> latencies = new ArrayList<>();
+        long errors = 0;
+        for (Future<ClientResult> future : clients) {
+            ClientResult result = future.get();
+            Arrays.stream(result.latencies()).forEach(latencies::add);
+            errors += result.errors();
+        }
+        latencies.sort(null);
+        return new Result(latencies.size() * 1e9 / elapsed, percentile(latencies, 0.50), percentile(latencies, 0.99),
+                errors);
+    }
+
+    private static double percentile(List<Long> sorted, double quantile) {
+        if (sorted.isEmpty()) {
+            return Double.NaN;
+        }
+        int index = (int) Math.ceil(quantile * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index)) / 1e6;
+    }
+
+    private record ClientResult(long[] latencies, long errors) {
+    }
+
+    private record Result(double throughput, double p50Millis, double p99Millis, long errors) {
+    }
+}
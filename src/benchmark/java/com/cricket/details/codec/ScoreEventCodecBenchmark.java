@@ -0,0 +1,46 @@
+package com.cricket.details.codec;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.cricket.details.model.ScoreEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Rough encode cost of the JSON and binary score event codecs. Run with
+ * {@code ./gradlew benchmark}; it reports numbers and asserts nothing.
+ */
+class ScoreEventCodecBenchmark {
+
+    private static final int ITERATIONS = 200_000;
+
+    private final JsonScoreEventCodec json = new JsonScoreEventCodec(new ObjectMapper());
+    private final BinaryScoreEventCodec binary = new BinaryScoreEventCodec();
+
+    private final ScoreEvent event = new ScoreEvent(UUID.randomUUID().toString(), 123_456L, "virat", "IND-vs-AUS",
+            82, "Win");
+
+    @Test
+    @DisplayName("encode() - report size and time per operation for both codecs")
+    void encode_ReportCost() {
+        long jsonNanos = time(json);
+        long binaryNanos = time(binary);
+        System.out.printf("score event codec: json=%d bytes %d ns/op, binary=%d bytes %d ns/op%n",
+                json.encode(event).length, jsonNanos / ITERATIONS, binary.encode(event).length,
+                binaryNanos / ITERATIONS);
+    }
+
+    private long time(ScoreEventCodec codec) {
+        // warm up before measuring
+        for (int i = 0; i < ITERATIONS; i++) {
+            codec.encode(event);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            codec.encode(event);
+        }
+        return System.nanoTime() - start;
+    }
+}
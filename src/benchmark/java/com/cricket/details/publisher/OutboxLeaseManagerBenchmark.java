@@ -0,0 +1,96 @@
+package com.cricket.details.publisher;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.cricket.details.model.OutboxEvent;
+import com.cricket.details.repository.OutboxRepository;
+
+/**
+ * Drain time of the outbox as publisher workers are added, each claiming a
+ * batch, "sending" it for a fixed time and acking it. Run with
+ * {@code ./gradlew benchmark}; it reports numbers and asserts nothing.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxLeaseManagerBenchmark {
+
+    private static final int EVENTS = 480;
+    private static final int BATCH_SIZE = 10;
+    private static final long SEND_MILLIS = 20;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("claim() - report drain time for 1, 2, 4 and 8 workers")
+    void claim_ReportDrainTimeByWorkers() throws Exception {
+        for (int workers : new int[] { 1, 2, 4, 8 }) {
+            outboxRepository.deleteAll();
+            seed();
+            long millis = drain(workers);
+            System.out.printf("outbox lease: %d workers drained %d events in %d ms%n", workers, EVENTS, millis);
+        }
+    }
+
+    private long drain(int workers) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < workers; w++) {
+                OutboxLeaseManager leaseManager = new OutboxLeaseManager(outboxRepository, "worker-" + w, 30_000);
+                futures.add(executor.submit(() -> {
+                    List<OutboxEvent> claimed;
+                    while (!(claimed = claim(leaseManager)).isEmpty()) {
+                        Thread.sleep(SEND_MILLIS);
+                        outboxRepository.markSent(claimed.stream().map(OutboxEvent::getId).toList(),
+                                leaseManager.getNodeId(), Instant.now());
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    // lease managers built here are not proxied, so run each claim in its own transaction
+    private List<OutboxEvent> claim(OutboxLeaseManager leaseManager) {
+        return new TransactionTemplate(transactionManager).execute(status -> leaseManager.claim(BATCH_SIZE));
+    }
+
+    private void seed() {
+        List<OutboxEvent> events = new ArrayList<>();
+        for (int i = 0; i < EVENTS; i++) {
+            OutboxEvent event = new OutboxEvent();
+            event.setEventId("event-" + i);
+            event.setEventType("SCORE CREATED");
+            event.setAggregateType("SCORE");
+            event.setAggregateId(String.valueOf(i));
+            event.setPayload("{}".getBytes());
+            events.add(event);
+        }
+        outboxRepository.saveAll(events);
+    }
+}
@@ -0,0 +1,40 @@
+package com.cricket.details.client;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.github.resilience4j.retry.annotation.Retry;
+
+/**
+ * Calls the notification service for the message shown after login.
+ * <p>
+ * Failures are retried and counted by a circuit breaker, then thrown: the
+ * caller decides what to serve instead. While the circuit is open, calls
+ * fail at once with {@code CallNotPermittedException}.
+ * </p>
+ */
+@Component
+public class NotificationClient {
+
+    private final RestTemplate restTemplate;
+    private final String notificationUrl;
+
+    public NotificationClient(RestTemplate restTemplate,
+            @Value("${app.notification.url: http://localhost:8082/getNotification}") String notificationUrl) {
+        this.restTemplate = restTemplate;
+        this.notificationUrl = notificationUrl;
+    }
+
+    @Retry(name = "notificationRetry")
+    @CircuitBreaker(name = "notificationCB")
+    public String fetchLoginMessage() {
+        ResponseEntity<String> response = restTemplate.getForEntity(notificationUrl, String.class);
+        if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+            throw new IllegalStateException("Failed to fetch from notification service: " + response.getStatusCode());
+        }
+        return response.getBody();
+    }
+}
@@ -0,0 +1,90 @@
+package com.cricket.details.codec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import com.cricket.details.model.ScoreEvent;
+
+/**
+ * Compact, schema-versioned binary encoding of score events.
+ * <p>
+ * Layout of version 1: a version byte, the event id as a 16 byte UUID, score
+ * id and runs as unsigned varints, then user, match and result as
+ * length-prefixed UTF-8. New fields must go into a new version so older
+ * payloads stay readable.
+ * </p>
+ */
+@Component
+public class BinaryScoreEventCodec implements ScoreEventCodec {
+
+    public static final String CONTENT_TYPE = "application/vnd.cricket.score+binary";
+
+    private static final byte VERSION_1 = 1;
+
+    @Override
+    public String contentType() {
+        return CONTENT_TYPE;
+    }
+
+    @Override
+    public byte[] encode(ScoreEvent event) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            UUID eventId = UUID.fromString(event.eventId());
+            out.writeByte(VERSION_1);
+            out.writeLong(eventId.getMostSignificantBits());
+            out.writeLong(eventId.getLeastSignificantBits());
+            writeVarLong(out, event.scoreId());
+            writeVarLong(out, event.score());
+            out.writeUTF(event.user());
+            out.writeUTF(event.match());
+            out.writeUTF(event.result());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode score event " + event.eventId(), e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public ScoreEvent decode(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            byte version = in.readByte();
+            if (version != VERSION_1) {
+                throw new IllegalArgumentException("Unsupported score event version " + version);
+            }
+            String eventId = new UUID(in.readLong(), in.readLong()).toString();
+            long scoreId = readVarLong(in);
+            int runs = (int) readVarLong(in);
+            return new ScoreEvent(eventId, scoreId, in.readUTF(), in.readUTF(), runs, in.readUTF());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode score event", e);
+        }
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+}
@@ -0,0 +1,48 @@
+package com.cricket.details.codec;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import org.springframework.stereotype.Component;
+
+import com.cricket.details.model.ScoreEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * JSON encoding kept for consumers that still read the original payload
+ * format.
+ */
+@Component
+public class JsonScoreEventCodec implements ScoreEventCodec {
+
+    public static final String CONTENT_TYPE = "application/json";
+
+    private final ObjectMapper objectMapper;
+
+    public JsonScoreEventCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public String contentType() {
+        return CONTENT_TYPE;
+    }
+
+    @Override
+    public byte[] encode(ScoreEvent event) {
+        try {
+            return objectMapper.writeValueAsBytes(event);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode score event " + event.eventId(), e);
+        }
+    }
+
+    @Override
+    public ScoreEvent decode(byte[] payload) {
+        try {
+            return objectMapper.readValue(payload, ScoreEvent.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode score event", e);
+        }
+    }
+}
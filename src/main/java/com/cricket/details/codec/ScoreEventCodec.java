@@ -0,0 +1,18 @@
+package com.cricket.details.codec;
+
+import com.cricket.details.model.ScoreEvent;
+
+/**
+ * Encodes score events for the outbox and Kafka. The content type is stored
+ * with every outbox row and sent as a Kafka header so readers can pick the
+ * matching codec.
+ */
+public interface ScoreEventCodec {
+
+    public String contentType();
+
+    public byte[] encode(ScoreEvent event);
+
+    public ScoreEvent decode(byte[] payload);
+
+}
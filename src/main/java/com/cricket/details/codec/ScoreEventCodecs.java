@@ -0,0 +1,42 @@
+package com.cricket.details.codec;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Looks up score event codecs: the one configured for new outbox rows through
+ * {@code app.outbox.payloadFormat}, and any known codec by content type for
+ * reading.
+ */
+@Component
+public class ScoreEventCodecs {
+
+    private final Map<String, ScoreEventCodec> byContentType;
+    private final ScoreEventCodec writer;
+
+    public ScoreEventCodecs(List<ScoreEventCodec> codecs,
+            @Value("${app.outbox.payloadFormat: binary}") String payloadFormat) {
+        this.byContentType = codecs.stream()
+                .collect(Collectors.toMap(ScoreEventCodec::contentType, Function.identity()));
+        this.writer = "json".equalsIgnoreCase(payloadFormat.trim())
+                ? byContentType.get(JsonScoreEventCodec.CONTENT_TYPE)
+                : byContentType.get(BinaryScoreEventCodec.CONTENT_TYPE);
+    }
+
+    public ScoreEventCodec writer() {
+        return writer;
+    }
+
+    public ScoreEventCodec forContentType(String contentType) {
+        ScoreEventCodec codec = byContentType.get(contentType);
+        if (codec == null) {
+            throw new IllegalArgumentException("No score event codec for content type " + contentType);
+        }
+        return codec;
+    }
+}
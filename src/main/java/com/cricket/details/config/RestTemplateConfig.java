@@ -1,14 +1,112 @@
 package com.cricket.details.config;
 
+import java.net.URI;
+
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+
+/**
+ * Outbound HTTP client shared by every {@link RestTemplate} call.
+ * <p>
+ * Connections are pooled and kept alive, with a total limit and a per-route
+ * limit; the notification service gets its own route limit. Every phase of a
+ * call is bounded: waiting for a pooled connection, connecting, and waiting
+ * for the response, so a slow downstream holds a request thread for at most
+ * those timeouts instead of the OS TCP timeout. Automatic retries are off
+ * because resilience4j already retries at the call site.
+ * </p>
+ */
 @Configuration
 public class RestTemplateConfig {
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager httpConnectionManager(
+            @Value("${app.http.client.maxTotal: 50}") int maxTotal,
+            @Value("${app.http.client.maxPerRoute: 10}") int maxPerRoute,
+            @Value("${app.http.client.connectTimeoutMs: 1000}") long connectTimeoutMs,
+            @Value("${app.http.client.responseTimeoutMs: 2000}") long responseTimeoutMs,
+            @Value("${app.http.client.ttlMs: 300000}") long ttlMs,
+            @Value("${app.notification.url: http://localhost:8082/getNotification}") String notificationUrl,
+            @Value("${app.notification.maxPerRoute: 20}") int notificationMaxPerRoute) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(responseTimeoutMs))
+                        .setTimeToLive(TimeValue.ofMilliseconds(ttlMs))
+                        // re-check connections idle for a while before reuse, in case the server closed them
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+        connectionManager.setMaxPerRoute(routeOf(notificationUrl), notificationMaxPerRoute);
+        return connectionManager;
+    }
+
+    /**
+     * @return the route the client plans for {@code url}, with the scheme's
+     *         default port filled in; route limits only apply to an equal
+     *         route, so https routes must be marked secure
+     */
+    static HttpRoute routeOf(String url) {
+        URI uri = URI.create(url);
+        boolean secure = "https".equalsIgnoreCase(uri.getScheme());
+        int port = uri.getPort() != -1 ? uri.getPort() : secure ? 443 : 80;
+        return new HttpRoute(new HttpHost(uri.getScheme(), uri.getHost(), port), null, secure);
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient httpClient(PoolingHttpClientConnectionManager httpConnectionManager,
+            @Value("${app.http.client.connectionRequestTimeoutMs: 500}") long connectionRequestTimeoutMs,
+            @Value("${app.http.client.responseTimeoutMs: 2000}") long responseTimeoutMs,
+            @Value("${app.http.client.idleEvictMs: 30000}") long idleEvictMs) {
+        return HttpClients.custom()
+                .setConnectionManager(httpConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(responseTimeoutMs))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(idleEvictMs))
+                .disableAutomaticRetries()
+                .build();
+    }
+
+    /**
+     * Publishes {@code httpcomponents.httpclient.pool.*} meters: leased,
+     * available and pending connections and the pool limits.
+     */
+    @Bean
+    public MeterBinder httpClientPoolMetrics(PoolingHttpClientConnectionManager httpConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(httpConnectionManager, "outbound");
+    }
+
+    /**
+     * Built from Spring Boot's builder so calls are also timed as
+     * {@code http.client.requests}.
+     */
     @Bean
-    public RestTemplate getRestTemplate() {
-        return new RestTemplate();
+    public RestTemplate getRestTemplate(RestTemplateBuilder restTemplateBuilder, CloseableHttpClient httpClient) {
+        return restTemplateBuilder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .build();
     }
 
 }
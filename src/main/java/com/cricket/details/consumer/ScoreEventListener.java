@@ -0,0 +1,82 @@
+package com.cricket.details.consumer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.stereotype.Component;
+
+import com.cricket.details.codec.JsonScoreEventCodec;
+import com.cricket.details.codec.ScoreEventCodecs;
+import com.cricket.details.model.ScoreEvent;
+import com.cricket.details.service.ScoreHistoryService;
+
+/**
+ * Builds the score read store from {@code app.kafka.mainTopic}.
+ * <p>
+ * Records arrive in batches and each batch is written in one transaction;
+ * offsets are committed once per batch after the listener returns. Payloads
+ * are decoded with the codec named in the content type header, and records
+ * without the header are read as JSON, the format used before the header
+ * existed. A record that cannot be decoded, or that lacks the event id,
+ * score id or user the read store is keyed on (JSON events written before
+ * the score id was added), is logged and skipped rather than blocking the
+ * partition.
+ * </p>
+ */
+@Component
+public class ScoreEventListener {
+
+    private static final Logger log = LoggerFactory.getLogger(ScoreEventListener.class);
+
+    private final ScoreEventCodecs scoreEventCodecs;
+    private final ScoreViewWriter scoreViewWriter;
+    private final ScoreHistoryService scoreHistoryService;
+
+    public ScoreEventListener(ScoreEventCodecs scoreEventCodecs, ScoreViewWriter scoreViewWriter,
+            ScoreHistoryService scoreHistoryService) {
+        this.scoreEventCodecs = scoreEventCodecs;
+        this.scoreViewWriter = scoreViewWriter;
+        this.scoreHistoryService = scoreHistoryService;
+    }
+
+    @KafkaListener(id = "score-view", topics = "${app.kafka.mainTopic}", batch = "true",
+            autoStartup = "${app.scores.view.listenerEnabled:true}")
+    public void onScoreEvents(List<ConsumerRecord<String, byte[]>> records) {
+        List<ScoreEvent> events = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, byte[]> record : records) {
+            ScoreEvent event;
+            try {
+                event = scoreEventCodecs.forContentType(contentType(record)).decode(record.value());
+            } catch (RuntimeException e) {
+                log.warn("Skipping undecodable score event at {}-{}@{}: {}", record.topic(), record.partition(),
+                        record.offset(), e.getMessage());
+                continue;
+            }
+            if (event.eventId() == null || event.scoreId() == null || event.user() == null) {
+                log.warn("Skipping incomplete score event at {}-{}@{}: eventId={}, scoreId={}, user={}",
+                        record.topic(), record.partition(), record.offset(), event.eventId(), event.scoreId(),
+                        event.user());
+                continue;
+            }
+            events.add(event);
+        }
+        int applied = scoreViewWriter.apply(events);
+        if (applied > 0) {
+            // histories served from the read store change only once the batch is committed
+            events.stream().map(ScoreEvent::user).distinct().forEach(scoreHistoryService::invalidate);
+        }
+        log.debug("Applied {} of {} score events to the read store", applied, records.size());
+    }
+
+    private static String contentType(ConsumerRecord<String, byte[]> record) {
+        Header header = record.headers().lastHeader(KafkaHeaders.CONTENT_TYPE);
+        return header == null ? JsonScoreEventCodec.CONTENT_TYPE : new String(header.value(), StandardCharsets.UTF_8);
+    }
+}
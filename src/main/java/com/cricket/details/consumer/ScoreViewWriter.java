@@ -0,0 +1,53 @@
+package com.cricket.details.consumer;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.cricket.details.model.ScoreEvent;
+import com.cricket.details.model.ScoreView;
+import com.cricket.details.repository.ScoreViewRepository;
+
+/**
+ * Applies a batch of score events to the read store.
+ * <p>
+ * Kafka delivers at least once, so an event can arrive again after a
+ * rebalance or a publisher retry. Events whose id is already stored, or that
+ * repeat within the batch, are skipped; the rest are inserted together.
+ * </p>
+ */
+@Component
+public class ScoreViewWriter {
+
+    private final ScoreViewRepository scoreViewRepository;
+
+    public ScoreViewWriter(ScoreViewRepository scoreViewRepository) {
+        this.scoreViewRepository = scoreViewRepository;
+    }
+
+    /**
+     * @return number of events that were new
+     */
+    @Transactional
+    public int apply(List<ScoreEvent> events) {
+        Map<String, ScoreEvent> byEventId = new LinkedHashMap<>();
+        for (ScoreEvent event : events) {
+            byEventId.putIfAbsent(event.eventId(), event);
+        }
+        if (byEventId.isEmpty()) {
+            return 0;
+        }
+        Set<String> existing = new HashSet<>(scoreViewRepository.findExistingEventIds(byEventId.keySet()));
+        List<ScoreView> views = byEventId.values().stream()
+                .filter(event -> !existing.contains(event.eventId()))
+                .map(ScoreView::new)
+                .toList();
+        scoreViewRepository.saveAll(views);
+        return views.size();
+    }
+}
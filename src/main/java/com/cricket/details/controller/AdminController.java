@@ -0,0 +1,51 @@
+package com.cricket.details.controller;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.cricket.details.model.UserAccountUpdate;
+import com.cricket.details.service.UserAdminService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.validation.Valid;
+
+/**
+ * Controller for account administration; every endpoint requires
+ * {@code ROLE_ADMIN}.
+ */
+@RestController
+@RequestMapping("/api/admin/users")
+public class AdminController {
+
+    private static final Logger log = LoggerFactory.getLogger(AdminController.class);
+
+    private final UserAdminService userAdminService;
+
+    public AdminController(UserAdminService userAdminService) {
+        this.userAdminService = userAdminService;
+    }
+
+    /**
+     * Enables or disables an account and sets its role. Tokens issued before
+     * the change stop being trusted from their claims.
+     *
+     * @param username the account to change
+     * @param update   the new enabled flag and role; must be valid
+     * @return 204 once the change is stored
+     */
+    @Operation(summary = "Update an account", description = "Sets the enabled flag and role of a user", security = @SecurityRequirement(name = "bearerAuth"))
+    @PutMapping("/{username}")
+    public ResponseEntity<Void> updateAccount(@PathVariable String username,
+            @Valid @RequestBody UserAccountUpdate update) {
+        log.info("Request to update the account of user {}", username);
+        userAdminService.updateAccount(username, update);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.cricket.details.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.cricket.details.model.LeaderboardEntry;
+import com.cricket.details.model.LeaderboardRank;
+import com.cricket.details.service.LeaderboardService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+
+/**
+ * Controller serving the highest innings overall and per match
+ */
+@RestController
+@RequestMapping("/leaderboard")
+public class LeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+
+    public LeaderboardController(LeaderboardService leaderboardService) {
+        this.leaderboardService = leaderboardService;
+    }
+
+    @Operation(summary = "Overall leaderboard", description = "API to get the highest innings across all matches", security = @SecurityRequirement(name = "bearerAuth"))
+    @GetMapping
+    public ResponseEntity<List<LeaderboardEntry>> getOverall(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(leaderboardService.getTop(null, limit));
+    }
+
+    @Operation(summary = "Match leaderboard", description = "API to get the highest innings of a match", security = @SecurityRequirement(name = "bearerAuth"))
+    @GetMapping("/matches/{match}")
+    public ResponseEntity<List<LeaderboardEntry>> getMatch(@PathVariable String match,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(leaderboardService.getTop(match, limit));
+    }
+
+    /**
+     * Rank of the current user's best innings, overall or within a match.
+     */
+    @Operation(summary = "Leaderboard rank", description = "API to get the rank of the user overall or in a match", security = @SecurityRequirement(name = "bearerAuth"))
+    @GetMapping("/rank")
+    public ResponseEntity<LeaderboardRank> getRank(@AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(required = false) String match) {
+        return ResponseEntity.ok(leaderboardService.getRank(userDetails.getUsername(), match));
+    }
+}
@@ -1,5 +1,6 @@
 package com.cricket.details.controller;
 
+import java.io.IOException;
 import java.util.List;
 
 import org.slf4j.Logger;
@@ -8,20 +9,33 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.cricket.details.model.ScoreBatchResponse;
+import com.cricket.details.model.ScoreHistory;
+import com.cricket.details.model.ScoreImportFormat;
+import com.cricket.details.model.ScoreImportReport;
+import com.cricket.details.model.ScorePage;
 import com.cricket.details.model.ScoreRequest;
-import com.cricket.details.model.ScoreResponse;
+import com.cricket.details.model.UserScoreStatsResponse;
+import com.cricket.details.service.ScoreHistoryService;
+import com.cricket.details.service.ScoreImportService;
 import com.cricket.details.service.ScoreService;
+import com.cricket.details.service.UserScoreStatsService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
 import org.springframework.web.bind.annotation.GetMapping;
@@ -38,9 +52,16 @@ public class ScoreController {
     private static final Logger log = LoggerFactory.getLogger(ScoreController.class);
 
     private final ScoreService scoreService;
+    private final ScoreImportService scoreImportService;
+    private final UserScoreStatsService userScoreStatsService;
+    private final ScoreHistoryService scoreHistoryService;
 
-    public ScoreController(ScoreService scoreService) {
+    public ScoreController(ScoreService scoreService, ScoreImportService scoreImportService,
+            UserScoreStatsService userScoreStatsService, ScoreHistoryService scoreHistoryService) {
         this.scoreService = scoreService;
+        this.scoreImportService = scoreImportService;
+        this.userScoreStatsService = userScoreStatsService;
+        this.scoreHistoryService = scoreHistoryService;
     }
 
     /**
@@ -60,16 +81,115 @@ public class ScoreController {
     }
 
     /**
-     * Retrieves the list of scores for the currently authenticated user.
+     * Add a batch of scores for the currently authenticated user in one
+     * transaction. Invalid items are reported per item and do not stop the
+     * valid ones from being saved.
+     *
+     * @param scoreRequests the scores to add
+     * @return HTTP 201 with the result of every item, in request order
+     */
+    @Operation(summary = "Adding scores in bulk", description = "API endpoint to add a batch of scores for the user", security = @SecurityRequirement(name = "bearerAuth"))
+    @PostMapping("/batch")
+    public ResponseEntity<ScoreBatchResponse> addScores(@AuthenticationPrincipal UserDetails userDetails,
+            @RequestBody List<ScoreRequest> scoreRequests) {
+        log.info("Request to add {} scores", scoreRequests.size());
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(scoreService.addScores(userDetails.getUsername(), scoreRequests));
+    }
+
+    /**
+     * Streams a large NDJSON or CSV body of scores into the current user's
+     * history, committing in chunks. Rows that fail validation are listed in
+     * the report and do not stop the import.
+     *
+     * @param resumeAfter data rows to skip, taken from the
+     *                    {@code lastCommittedRow} of an interrupted import
+     * @return HTTP 200 with the import report
+     */
+    @Operation(summary = "Import scores", description = "API endpoint to backfill scores from an NDJSON or CSV stream", security = @SecurityRequirement(name = "bearerAuth"))
+    @PostMapping(value = "/import", consumes = { "application/x-ndjson", "text/csv" })
+    public ResponseEntity<ScoreImportReport> importScores(@AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(defaultValue = "0") long resumeAfter, HttpServletRequest request) throws IOException {
+        log.info("Request to import scores for user {} resuming after row {}", userDetails.getUsername(),
+                resumeAfter);
+        return ResponseEntity.ok(scoreImportService.importScores(userDetails.getUsername(), request.getInputStream(),
+                ScoreImportFormat.fromContentType(request.getContentType()), resumeAfter));
+    }
+
+    /**
+     * Retrieves one page of scores for the currently authenticated user,
+     * newest first.
+     *
+     * @param cursor the {@code nextCursor} of the previous page; omit for the
+     *               first page
+     * @param limit  page size
+     * @return the page and the cursor of the next one
+     */
+    @Operation(summary = "Get Scores page", description = "API to page through the scores of the user", security = @SecurityRequirement(name = "bearerAuth"))
+    @GetMapping
+    public ResponseEntity<ScorePage> getScores(@AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(required = false) Long cursor, @RequestParam(defaultValue = "50") int limit) {
+        log.debug("Request to get a page of scores of the user {} after cursor {}", userDetails.getUsername(), cursor);
+        return ResponseEntity.ok(scoreService.getScores(userDetails.getUsername(), cursor, limit));
+    }
+
+    /**
+     * Retrieves the running statistics of the currently authenticated user:
+     * innings, total and best runs, average and counts per result.
+     *
+     * @return the statistics, all zero for a user without scores
+     */
+    @Operation(summary = "Get Score statistics", description = "API to get the score statistics of the user", security = @SecurityRequirement(name = "bearerAuth"))
+    @GetMapping("/stats")
+    public ResponseEntity<UserScoreStatsResponse> getStats(@AuthenticationPrincipal UserDetails userDetails) {
+        log.debug("Request to get the score statistics of the user {}", userDetails.getUsername());
+        return ResponseEntity.ok(userScoreStatsService.getStats(userDetails.getUsername()));
+    }
+
+    /**
+     * Retrieves the whole score history of the currently authenticated user
+     * for clients that poll. The ETag changes whenever the user's scores do;
+     * a request whose {@code If-None-Match} still matches gets HTTP 304
+     * without reading any scores, and other requests are served the cached
+     * JSON of the current version when there is one.
+     *
+     * @return the user's scores, newest first, or 304 when unchanged
+     */
+    @Operation(summary = "Get Scores for polling", description = "API to get the scores of the user, supporting If-None-Match", security = @SecurityRequirement(name = "bearerAuth"))
+    @GetMapping("/history")
+    public ResponseEntity<byte[]> getScoreHistory(@AuthenticationPrincipal UserDetails userDetails,
+            WebRequest request) {
+        String username = userDetails.getUsername();
+        if (request.checkNotModified(scoreHistoryService.currentVersion(username))) {
+            // status and ETag are already set on the response
+            return null;
+        }
+        log.debug("Request to get the score history of the user {}", username);
+        ScoreHistory history = scoreHistoryService.getHistory(username);
+        return ResponseEntity.ok()
+                .eTag(history.version())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(history.json());
+    }
+
+    /**
+     * Retrieves the whole score history of the currently authenticated user.
+     * The JSON array is streamed while rows are read, so large histories
+     * neither wait for the last row nor sit in memory.
      *
-     * @param scoreRequest filters or pagination info (if any); must be valid
      * @return list of ScoreResponse objects representing the user's scores
      */
     @Operation(summary = "Get Scores", description = "API to get the scores of the user", security = @SecurityRequirement(name = "bearerAuth"))
     @PostMapping("/getScores")
-    public ResponseEntity<List<ScoreResponse>> getScores(@AuthenticationPrincipal UserDetails userDetails) {
-        log.info("Request to get the scores of the user {}", userDetails.getUsername());
-        return ResponseEntity.ok(scoreService.getScores(userDetails.getUsername()));
+    public ResponseEntity<StreamingResponseBody> streamScores(@AuthenticationPrincipal UserDetails userDetails) {
+        String username = userDetails.getUsername();
+        log.info("Request to get the scores of the user {}", username);
+        // the body runs after the status is committed, so an unknown user must fail here
+        scoreService.requireUser(username);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> scoreService.streamScores(username, out));
     }
 
 }
@@ -5,6 +5,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -47,6 +48,38 @@ public class GlobalExceptionHandler {
 
         }
 
+        @ExceptionHandler(InvalidScoreBatchException.class)
+        public ResponseEntity<ErrorResponse> handleInvalidScoreBatch(InvalidScoreBatchException exception,
+                        HttpServletRequest request) {
+                ErrorResponse errorResponse = new ErrorResponse(LocalDateTime.now(), HttpStatus.BAD_REQUEST.value(),
+                                "Bad Request", exception.getMessage(), request.getRequestURI());
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
+
+        @ExceptionHandler(RateLimitExceededException.class)
+        public ResponseEntity<ErrorResponse> handleRateLimitExceeded(RateLimitExceededException exception,
+                        HttpServletRequest request) {
+                ErrorResponse errorResponse = new ErrorResponse(LocalDateTime.now(),
+                                HttpStatus.TOO_MANY_REQUESTS.value(), "Too Many Requests", exception.getMessage(),
+                                request.getRequestURI());
+                // Retry-After is in whole seconds, so round up to not invite an early retry
+                long retryAfterSeconds = Math.max(1, (exception.getRetryAfter().toMillis() + 999) / 1000);
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                                .body(errorResponse);
+        }
+
+        @ExceptionHandler(PasswordHashingBusyException.class)
+        public ResponseEntity<ErrorResponse> handlePasswordHashingBusy(PasswordHashingBusyException exception,
+                        HttpServletRequest request) {
+                ErrorResponse errorResponse = new ErrorResponse(LocalDateTime.now(),
+                                HttpStatus.SERVICE_UNAVAILABLE.value(), "Service Unavailable", exception.getMessage(),
+                                request.getRequestURI());
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                                .header(HttpHeaders.RETRY_AFTER, "1")
+                                .body(errorResponse);
+        }
+
         @ExceptionHandler(UserNotFoundException.class)
         public ResponseEntity<ErrorResponse> handleInvalidCredentials(UserNotFoundException exception,
                         HttpServletRequest request) {
@@ -0,0 +1,11 @@
+package com.cricket.details.exception;
+
+/**
+ * Thrown when a score batch or import body cannot be accepted as a whole,
+ * such as an empty or oversized batch or a CSV body without a usable header.
+ */
+public class InvalidScoreBatchException extends RuntimeException {
+    public InvalidScoreBatchException(String message) {
+        super(message);
+    }
+}
@@ -1,7 +1,9 @@
 package com.cricket.details.filter;
 
 import java.io.IOException;
+import java.util.Date;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -11,8 +13,12 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.cricket.details.model.User;
+import com.cricket.details.service.impl.CustomUserDetails;
 import com.cricket.details.util.JwtUtil;
+import com.cricket.details.util.PrincipalRecheckRegistry;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -23,10 +29,19 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
-
-    public JwtAuthFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService) {
+    private final PrincipalRecheckRegistry principalRecheckRegistry;
+    private final boolean statelessEnabled;
+    private final long maxStalenessMs;
+
+    public JwtAuthFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService,
+            PrincipalRecheckRegistry principalRecheckRegistry,
+            @Value("${jwt.stateless.enabled:false}") boolean statelessEnabled,
+            @Value("${jwt.stateless.max-staleness-ms:300000}") long maxStalenessMs) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
+        this.principalRecheckRegistry = principalRecheckRegistry;
+        this.statelessEnabled = statelessEnabled;
+        this.maxStalenessMs = maxStalenessMs;
     }
 
     @Override
@@ -36,13 +51,15 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         try {
             String jwt = extractJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && jwtUtil.isTokenValid(jwt, loadUser(jwt))) {
-                String username = jwtUtil.extractUserName(jwt);
+            if (StringUtils.hasText(jwt) && SecurityContextHolder.getContext().getAuthentication() == null) {
+                // verified once and served from the claims cache on later calls
+                Claims claims = jwtUtil.extractAllClaims(jwt);
+                String username = claims.getSubject();
 
-                if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                if (username != null) {
+                    UserDetails userDetails = resolvePrincipal(claims, username);
 
-                    if (jwtUtil.isTokenValid(jwt, userDetails)) {
+                    if (userDetails.isEnabled() && jwtUtil.isTokenValid(claims, userDetails)) {
                         UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
                                 userDetails, null, userDetails.getAuthorities());
                         authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -58,6 +75,25 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Builds the principal straight from the token claims when stateless mode
+     * is on and the claims are fresh enough; otherwise loads the user.
+     */
+    private UserDetails resolvePrincipal(Claims claims, String username) {
+        if (statelessEnabled && jwtUtil.hasPrincipalClaims(claims) && isFresh(claims.getIssuedAt())
+                && !principalRecheckRegistry.isRecheckRequired(username, claims.getIssuedAt())) {
+            User user = new User(claims.get(JwtUtil.CLAIM_USER_ID, Long.class), username, null,
+                    claims.get(JwtUtil.CLAIM_ROLE, String.class),
+                    claims.get(JwtUtil.CLAIM_ENABLED, Boolean.class));
+            return new CustomUserDetails(user);
+        }
+        return userDetailsService.loadUserByUsername(username);
+    }
+
+    private boolean isFresh(Date issuedAt) {
+        return issuedAt != null && System.currentTimeMillis() - issuedAt.getTime() <= maxStalenessMs;
+    }
+
     private String extractJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
@@ -66,9 +102,4 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         return null;
     }
 
-    private UserDetails loadUser(String jwt) {
-        String username = jwtUtil.extractUserName(jwt);
-        return userDetailsService.loadUserByUsername(username);
-    }
-
 }
@@ -0,0 +1,5 @@
+package com.cricket.details.model;
+
+public record LeaderboardEntry(int rank, String username, int runs, String match, Long scoreId) {
+
+}
@@ -0,0 +1,10 @@
+package com.cricket.details.model;
+
+/**
+ * Position of a user's best innings on a leaderboard; {@code rank} is null
+ * when the user is not in the kept top entries. {@code match} is null for
+ * the overall board.
+ */
+public record LeaderboardRank(String username, String match, Integer rank, Integer runs) {
+
+}
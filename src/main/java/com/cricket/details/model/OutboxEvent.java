@@ -8,14 +8,17 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
-import jakarta.persistence.Lob;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
 @Entity
-@Table(name = "OutboxEvent", indexes = { @Index(name = "idx_outbox_event_event_id", columnList = "eventId") })
+@Table(name = "OutboxEvent", indexes = { @Index(name = "idx_outbox_event_event_id", columnList = "eventId"),
+        @Index(name = "idx_outbox_event_status_next_attempt", columnList = "status, nextAttemptAt"),
+        @Index(name = "idx_outbox_event_status_sent_at", columnList = "status, sentAt") })
 public class OutboxEvent {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_event_seq")
+    @SequenceGenerator(name = "outbox_event_seq", sequenceName = "outbox_event_seq", allocationSize = 50)
     private Long id;
     @Column(nullable = false)
     private String eventId;
@@ -25,19 +28,28 @@ public class OutboxEvent {
     private String aggregateType;
     @Column(nullable = false)
     private String aggregateId;
-    @Lob
+    // encoded by the codec named in contentType; small enough to stay inline
+    @Column(nullable = false, length = 4000)
+    private byte[] payload;
     @Column(nullable = false)
-    private String payload;
+    private String contentType = "application/json";
     @Column(nullable = false)
     private String status = "PENDING";
     @Column(nullable = false)
     private Instant createdAt = Instant.now();
     @Column(nullable = false)
     private int retryCount = 0;
+    // earliest time the publisher may (re)try this event
+    @Column(nullable = false)
+    private Instant nextAttemptAt = Instant.now();
 
     private Instant lastAttemptAt;
     private Instant sentAt;
 
+    // lease held by the publisher instance currently sending this event
+    private String claimedBy;
+    private Instant claimedUntil;
+
     public Long getId() {
         return id;
     }
@@ -78,14 +90,22 @@ public class OutboxEvent {
         this.aggregateId = aggregateId;
     }
 
-    public String getPayload() {
+    public byte[] getPayload() {
         return payload;
     }
 
-    public void setPayload(String payload) {
+    public void setPayload(byte[] payload) {
         this.payload = payload;
     }
 
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
     public String getStatus() {
         return status;
     }
@@ -110,6 +130,14 @@ public class OutboxEvent {
         this.retryCount = retryCount;
     }
 
+    public Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(Instant nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
     public Instant getLastAttemptAt() {
         return lastAttemptAt;
     }
@@ -126,4 +154,20 @@ public class OutboxEvent {
         this.sentAt = sentAt;
     }
 
+    public String getClaimedBy() {
+        return claimedBy;
+    }
+
+    public void setClaimedBy(String claimedBy) {
+        this.claimedBy = claimedBy;
+    }
+
+    public Instant getClaimedUntil() {
+        return claimedUntil;
+    }
+
+    public void setClaimedUntil(Instant claimedUntil) {
+        this.claimedUntil = claimedUntil;
+    }
+
 }
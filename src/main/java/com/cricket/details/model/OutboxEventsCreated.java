@@ -0,0 +1,11 @@
+package com.cricket.details.model;
+
+import java.util.List;
+
+/**
+ * Published when outbox rows are written, so they can be sent as soon as the
+ * surrounding transaction commits.
+ */
+public record OutboxEventsCreated(List<Long> outboxIds) {
+
+}
@@ -5,15 +5,20 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
 @Entity // cannot be a record
-@Table(name = "score")
+@Table(name = "score", indexes = { @Index(name = "idx_score_user_id_id", columnList = "user_id, id"),
+        @Index(name = "idx_score_match_runs", columnList = "match, runs") })
 public class Score {
 
+        // pooled sequence so inserts can be JDBC-batched; IDENTITY forces one round trip per row
         @Id
-        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "score_seq")
+        @SequenceGenerator(name = "score_seq", sequenceName = "score_seq", allocationSize = 50)
         private Long id;
 
         private int runs;
@@ -0,0 +1,21 @@
+package com.cricket.details.model;
+
+import java.util.List;
+
+/**
+ * Outcome of one item of a score batch; {@code index} is its position in the
+ * request.
+ */
+public record ScoreBatchItemResult(int index, String status, Long scoreId, List<String> errors) {
+
+    public static final String CREATED = "CREATED";
+    public static final String REJECTED = "REJECTED";
+
+    public static ScoreBatchItemResult created(int index, Long scoreId) {
+        return new ScoreBatchItemResult(index, CREATED, scoreId, List.of());
+    }
+
+    public static ScoreBatchItemResult rejected(int index, List<String> errors) {
+        return new ScoreBatchItemResult(index, REJECTED, null, errors);
+    }
+}
@@ -0,0 +1,7 @@
+package com.cricket.details.model;
+
+import java.util.List;
+
+public record ScoreBatchResponse(int created, int rejected, List<ScoreBatchItemResult> items) {
+
+}
@@ -0,0 +1,8 @@
+package com.cricket.details.model;
+
+/**
+ * Payload of a score event as written to the outbox and published to Kafka.
+ */
+public record ScoreEvent(String eventId, Long scoreId, String user, String match, int score, String result) {
+
+}
@@ -0,0 +1,9 @@
+package com.cricket.details.model;
+
+/**
+ * A user's full score history serialized as a JSON array, with the version
+ * it was read at.
+ */
+public record ScoreHistory(String version, byte[] json) {
+
+}
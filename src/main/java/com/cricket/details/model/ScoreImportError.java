@@ -0,0 +1,9 @@
+package com.cricket.details.model;
+
+/**
+ * A rejected import row; {@code row} is the 1-based data row, not counting a
+ * CSV header.
+ */
+public record ScoreImportError(long row, String error) {
+
+}
@@ -0,0 +1,28 @@
+package com.cricket.details.model;
+
+/**
+ * Body formats accepted by the score import. CSV needs a header row naming
+ * the {@code runs}, {@code result} and {@code match} columns.
+ */
+public enum ScoreImportFormat {
+
+    NDJSON("application/x-ndjson"),
+    CSV("text/csv");
+
+    private final String contentType;
+
+    ScoreImportFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public static ScoreImportFormat fromContentType(String contentType) {
+        if (contentType != null && contentType.toLowerCase().startsWith(CSV.contentType)) {
+            return CSV;
+        }
+        return NDJSON;
+    }
+}
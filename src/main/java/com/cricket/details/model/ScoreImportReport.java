@@ -0,0 +1,12 @@
+package com.cricket.details.model;
+
+import java.util.List;
+
+/**
+ * Result of a score import. {@code lastCommittedRow} is the row to pass as
+ * {@code resumeAfter} when the import stopped before the end of the body.
+ */
+public record ScoreImportReport(boolean completed, long rowsRead, long imported, long rejected,
+        long lastCommittedRow, List<ScoreImportError> errors, boolean errorsTruncated, String failure) {
+
+}
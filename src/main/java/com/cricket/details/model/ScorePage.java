@@ -0,0 +1,11 @@
+package com.cricket.details.model;
+
+import java.util.List;
+
+/**
+ * One page of scores. Pass {@code nextCursor} as {@code cursor} to get the
+ * following page; it is null on the last page.
+ */
+public record ScorePage(List<ScoreResponse> items, Long nextCursor) {
+
+}
@@ -0,0 +1,22 @@
+package com.cricket.details.model;
+
+/**
+ * Buckets the free-text {@code Score.result} for statistics. Matching is
+ * case-insensitive; anything unrecognised counts as {@link #OTHER}.
+ */
+public enum ScoreResult {
+
+    WIN, LOSS, DRAW, OTHER;
+
+    public static ScoreResult of(String result) {
+        if (result == null) {
+            return OTHER;
+        }
+        return switch (result.trim().toLowerCase()) {
+            case "win", "won" -> WIN;
+            case "loss", "lose", "lost" -> LOSS;
+            case "draw", "drawn", "tie", "tied" -> DRAW;
+            default -> OTHER;
+        };
+    }
+}
@@ -0,0 +1,9 @@
+package com.cricket.details.model;
+
+/**
+ * Aggregate of one user's scores with the same result text, as read by the
+ * statistics rebuild.
+ */
+public record ScoreTotals(Long userId, String result, Long innings, Long totalRuns, Integer bestRuns) {
+
+}
@@ -0,0 +1,91 @@
+package com.cricket.details.model;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+
+/**
+ * Denormalized copy of a score, built from the score events on Kafka so that
+ * reads do not touch the tables the write path uses. Keyed by the score id so
+ * keyset paging works the same as on {@link Score}.
+ */
+@Entity
+@Table(name = "score_view", indexes = {
+        @Index(name = "idx_score_view_event_id", columnList = "eventId", unique = true),
+        @Index(name = "idx_score_view_username_id", columnList = "username, scoreId") })
+public class ScoreView implements Persistable<Long> {
+
+    @Id
+    private Long scoreId;
+    @Column(nullable = false)
+    private String eventId;
+    @Column(nullable = false)
+    private String username;
+    private String match;
+    private int runs;
+    private String result;
+
+    // ids are assigned, so tell Spring Data to persist rather than merge (which would select first)
+    @Transient
+    private boolean isNew = true;
+
+    protected ScoreView() {
+
+    }
+
+    public ScoreView(ScoreEvent event) {
+        this.scoreId = event.scoreId();
+        this.eventId = event.eventId();
+        this.username = event.user();
+        this.match = event.match();
+        this.runs = event.score();
+        this.result = event.result();
+    }
+
+    @Override
+    public Long getId() {
+        return scoreId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    public Long getScoreId() {
+        return scoreId;
+    }
+
+    public String getEventId() {
+        return eventId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getMatch() {
+        return match;
+    }
+
+    public int getRuns() {
+        return runs;
+    }
+
+    public String getResult() {
+        return result;
+    }
+}
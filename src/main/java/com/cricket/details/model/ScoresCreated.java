@@ -0,0 +1,11 @@
+package com.cricket.details.model;
+
+import java.util.List;
+
+/**
+ * Published when scores are written, for in-memory views that should only
+ * see them once the surrounding transaction has committed.
+ */
+public record ScoresCreated(List<ScoreResponse> scores) {
+
+}
@@ -4,10 +4,11 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = { @Index(name = "idx_users_username", columnList = "username", unique = true) })
 public class User {
         @Id
         @GeneratedValue(strategy = GenerationType.IDENTITY)
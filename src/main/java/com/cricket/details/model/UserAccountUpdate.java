@@ -0,0 +1,10 @@
+package com.cricket.details.model;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+
+public record UserAccountUpdate(
+                @NotNull(message = "Enabled cannot be blank") Boolean enabled,
+                @NotBlank(message = "Role cannot be blank") @Pattern(regexp = "ROLE_USER|ROLE_ADMIN", message = "Role must be ROLE_USER or ROLE_ADMIN") String role) {
+}
@@ -0,0 +1,103 @@
+package com.cricket.details.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * Running totals of a user's scores, kept up to date by every score write so
+ * that reading them is a single primary key lookup.
+ */
+@Entity
+@Table(name = "user_score_stats", indexes = {
+        @Index(name = "idx_user_score_stats_username", columnList = "username", unique = true) })
+public class UserScoreStats {
+
+    // same id as the user; there is at most one row per user
+    @Id
+    private Long userId;
+    @Column(nullable = false)
+    private String username;
+    private long innings;
+    private long totalRuns;
+    private int bestRuns;
+    private long wins;
+    private long losses;
+    private long draws;
+    private long otherResults;
+
+    protected UserScoreStats() {
+
+    }
+
+    public UserScoreStats(Long userId, String username) {
+        this.userId = userId;
+        this.username = username;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public long getInnings() {
+        return innings;
+    }
+
+    public void setInnings(long innings) {
+        this.innings = innings;
+    }
+
+    public long getTotalRuns() {
+        return totalRuns;
+    }
+
+    public void setTotalRuns(long totalRuns) {
+        this.totalRuns = totalRuns;
+    }
+
+    public int getBestRuns() {
+        return bestRuns;
+    }
+
+    public void setBestRuns(int bestRuns) {
+        this.bestRuns = bestRuns;
+    }
+
+    public long getWins() {
+        return wins;
+    }
+
+    public void setWins(long wins) {
+        this.wins = wins;
+    }
+
+    public long getLosses() {
+        return losses;
+    }
+
+    public void setLosses(long losses) {
+        this.losses = losses;
+    }
+
+    public long getDraws() {
+        return draws;
+    }
+
+    public void setDraws(long draws) {
+        this.draws = draws;
+    }
+
+    public long getOtherResults() {
+        return otherResults;
+    }
+
+    public void setOtherResults(long otherResults) {
+        this.otherResults = otherResults;
+    }
+}
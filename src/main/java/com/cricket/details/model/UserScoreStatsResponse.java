@@ -0,0 +1,16 @@
+package com.cricket.details.model;
+
+public record UserScoreStatsResponse(String username, long innings, long totalRuns, int bestRuns, double average,
+        long wins, long losses, long draws, long otherResults) {
+
+    public static UserScoreStatsResponse empty(String username) {
+        return new UserScoreStatsResponse(username, 0, 0, 0, 0, 0, 0, 0, 0);
+    }
+
+    public static UserScoreStatsResponse of(UserScoreStats stats) {
+        double average = stats.getInnings() == 0 ? 0 : (double) stats.getTotalRuns() / stats.getInnings();
+        return new UserScoreStatsResponse(stats.getUsername(), stats.getInnings(), stats.getTotalRuns(),
+                stats.getBestRuns(), average, stats.getWins(), stats.getLosses(), stats.getDraws(),
+                stats.getOtherResults());
+    }
+}
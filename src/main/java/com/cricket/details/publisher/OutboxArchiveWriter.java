@@ -0,0 +1,75 @@
+package com.cricket.details.publisher;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.cricket.details.model.OutboxEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Appends outbox rows removed by retention to a gzip-compressed NDJSON file,
+ * one file per UTC day. Every call appends a new gzip member, which standard
+ * tools read back as a single stream.
+ */
+@Component
+public class OutboxArchiveWriter {
+
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+
+    public OutboxArchiveWriter(ObjectMapper objectMapper,
+            @Value("${app.outbox.retention.archiveDir: outbox-archive}") String directory) {
+        this.objectMapper = objectMapper;
+        this.directory = Path.of(directory.trim());
+    }
+
+    public void append(List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        Path file = directory.resolve("outbox-" + LocalDate.now(ZoneOffset.UTC) + ".ndjson.gz");
+        try {
+            Files.createDirectories(directory);
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file, StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND))) {
+                for (OutboxEvent event : events) {
+                    out.write(objectMapper.writeValueAsBytes(toRecord(event)));
+                    out.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to archive outbox events to " + file, e);
+        }
+    }
+
+    private Map<String, Object> toRecord(OutboxEvent event) {
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put("id", event.getId());
+        record.put("eventId", event.getEventId());
+        record.put("eventType", event.getEventType());
+        record.put("aggregateType", event.getAggregateType());
+        record.put("aggregateId", event.getAggregateId());
+        record.put("status", event.getStatus());
+        record.put("retryCount", event.getRetryCount());
+        record.put("createdAt", event.getCreatedAt());
+        record.put("sentAt", event.getSentAt());
+        record.put("lastAttemptAt", event.getLastAttemptAt());
+        record.put("contentType", event.getContentType());
+        // byte[] is written as base64
+        record.put("payload", event.getPayload());
+        return record;
+    }
+}
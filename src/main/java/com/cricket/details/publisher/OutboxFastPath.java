@@ -0,0 +1,80 @@
+package com.cricket.details.publisher;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.cricket.details.model.OutboxEvent;
+import com.cricket.details.model.OutboxEventsCreated;
+import com.cricket.details.util.ThreadFactories;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Sends outbox events right after the transaction that wrote them commits,
+ * instead of waiting for the next {@link OutboxPublisher#poll()}.
+ * <p>
+ * This is best effort: the events are leased like any other claim, and if the
+ * hand-off queue is full or the send fails they stay pending for the
+ * scheduled poll, which remains the recovery sweep. The thread count stays
+ * bounded with virtual threads too, since each hand-off holds a database
+ * connection.
+ * </p>
+ */
+@Component
+public class OutboxFastPath {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxFastPath.class);
+
+    private final OutboxLeaseManager outboxLeaseManager;
+    private final OutboxPublisher outboxPublisher;
+    private final boolean enabled;
+    private final ThreadPoolExecutor executor;
+
+    public OutboxFastPath(OutboxLeaseManager outboxLeaseManager, OutboxPublisher outboxPublisher,
+            @Value("${app.outbox.fastPath: true}") boolean enabled,
+            @Value("${app.outbox.fastPathThreads: 2}") int threads,
+            @Value("${app.outbox.fastPathQueue: 1000}") int queueCapacity,
+            @Value("${spring.threads.virtual.enabled: false}") boolean virtualThreads) {
+        this.outboxLeaseManager = outboxLeaseManager;
+        this.outboxPublisher = outboxPublisher;
+        this.enabled = enabled;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), ThreadFactories.named("outbox-fast-path-", virtualThreads));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOutboxEventsCreated(OutboxEventsCreated created) {
+        if (!enabled || created.outboxIds().isEmpty()) {
+            return;
+        }
+        try {
+            executor.execute(() -> publish(created.outboxIds()));
+        } catch (RejectedExecutionException e) {
+            log.debug("Fast path saturated, leaving {} outbox events for the next poll", created.outboxIds().size());
+        }
+    }
+
+    private void publish(List<Long> outboxIds) {
+        try {
+            List<OutboxEvent> events = outboxLeaseManager.claim(outboxIds);
+            outboxPublisher.publishBatch(events);
+        } catch (Exception e) {
+            log.warn("Fast path publish failed, leaving events for the next poll: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,80 @@
+package com.cricket.details.publisher;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.cricket.details.model.OutboxEvent;
+import com.cricket.details.repository.OutboxRepository;
+
+import jakarta.transaction.Transactional;
+
+/**
+ * Leases pending outbox events to this publisher instance.
+ * <p>
+ * A claim runs in its own short transaction: it skips rows locked by other
+ * instances, stamps the rest with this node's id and a lease end, and commits
+ * so the row locks are released before anything is sent. Other instances
+ * ignore leased rows until the lease ends, which is also how events held by
+ * a crashed node are picked up again.
+ * </p>
+ */
+@Component
+public class OutboxLeaseManager {
+
+    private final OutboxRepository outboxRepository;
+    private final String nodeId;
+    private final Duration leaseDuration;
+
+    public OutboxLeaseManager(OutboxRepository outboxRepository,
+            @Value("${app.outbox.nodeId:}") String nodeId,
+            @Value("${app.outbox.leaseMs: 30000}") long leaseMs) {
+        this.outboxRepository = outboxRepository;
+        this.nodeId = StringUtils.hasText(nodeId) ? nodeId : UUID.randomUUID().toString();
+        this.leaseDuration = Duration.ofMillis(leaseMs);
+    }
+
+    /**
+     * Claims up to {@code limit} of the oldest unleased pending events.
+     *
+     * @param limit maximum number of events to lease
+     * @return the leased events, detached once the claim commits
+     */
+    @Transactional
+    public List<OutboxEvent> claim(int limit) {
+        Instant now = Instant.now();
+        return lease(outboxRepository.fetchPendingEvents(now, PageRequest.of(0, limit)), now);
+    }
+
+    /**
+     * Claims specific events, typically ones whose transaction just committed.
+     * Events already sent or leased elsewhere are left out.
+     *
+     * @param ids ids of the events to lease
+     * @return the leased events, detached once the claim commits
+     */
+    @Transactional
+    public List<OutboxEvent> claim(List<Long> ids) {
+        Instant now = Instant.now();
+        return lease(outboxRepository.fetchPendingEventsByIds(ids, now), now);
+    }
+
+    private List<OutboxEvent> lease(List<OutboxEvent> events, Instant now) {
+        Instant leaseEnd = now.plus(leaseDuration);
+        for (OutboxEvent event : events) {
+            event.setClaimedBy(nodeId);
+            event.setClaimedUntil(leaseEnd);
+        }
+        return events;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+}
@@ -0,0 +1,75 @@
+package com.cricket.details.publisher;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.stereotype.Component;
+
+import com.cricket.details.model.OutboxEvent;
+import com.cricket.details.repository.OutboxRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Micrometer meters describing how far behind the outbox is.
+ * <p>
+ * The backlog and oldest-pending gauges query the outbox when they are read,
+ * so they cost one query per scrape rather than anything per event. Publish
+ * latency is measured from the event's creation, which is written in the
+ * same transaction as the score, to the broker ack.
+ * </p>
+ */
+@Component
+public class OutboxMetrics {
+
+    private final MeterRegistry registry;
+    private final Timer publishLatency;
+
+    public OutboxMetrics(OutboxRepository outboxRepository, MeterRegistry registry) {
+        this.registry = registry;
+        this.publishLatency = Timer.builder("outbox.publish.latency")
+                .description("Time from outbox insert to broker ack")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(registry);
+        Gauge.builder("outbox.backlog", outboxRepository, r -> r.countByStatus("PENDING"))
+                .description("Outbox events waiting to be published")
+                .register(registry);
+        Gauge.builder("outbox.oldest.pending.age", outboxRepository, OutboxMetrics::oldestPendingAgeSeconds)
+                .description("Age of the oldest pending outbox event")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    public void recordSent(String topic, OutboxEvent event, Instant ackedAt) {
+        counter("outbox.publish.sent", topic).increment();
+        if (event.getCreatedAt() != null) {
+            publishLatency.record(Duration.between(event.getCreatedAt(), ackedAt));
+        }
+    }
+
+    public void recordRetries(String topic, int count) {
+        counter("outbox.publish.retries", topic).increment(count);
+    }
+
+    public void recordDeadLettered(String topic, int count) {
+        counter("outbox.publish.dlq", topic).increment(count);
+    }
+
+    public void recordSendFailed(String topic) {
+        counter("outbox.publish.failed", topic).increment();
+    }
+
+    private Counter counter(String name, String topic) {
+        // registry lookups are cached by name and tags, so this does not allocate meters per call
+        return Counter.builder(name).tag("topic", topic).register(registry);
+    }
+
+    private static double oldestPendingAgeSeconds(OutboxRepository repository) {
+        Instant oldest = repository.findOldestPendingCreatedAt();
+        return oldest == null ? 0 : Duration.between(oldest, Instant.now()).toMillis() / 1000.0;
+    }
+}
@@ -0,0 +1,101 @@
+package com.cricket.details.publisher;
+
+import java.time.Instant;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Drives {@link OutboxPublisher#poll()} with an adaptive delay.
+ * <p>
+ * While polls keep returning full pages the next poll runs immediately; a
+ * partial page resets the delay to the minimum; an empty outbox doubles the
+ * delay up to the maximum. Idle instances therefore stop querying every
+ * couple of seconds, and a backlog drains as fast as Kafka acks it.
+ * </p>
+ */
+@Component
+public class OutboxPollScheduler implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxPollScheduler.class);
+
+    private final OutboxPublisher outboxPublisher;
+    private final TaskScheduler taskScheduler;
+    private final long minIntervalMs;
+    private final long maxIntervalMs;
+
+    private volatile long currentIntervalMs;
+    private volatile boolean running;
+
+    public OutboxPollScheduler(OutboxPublisher outboxPublisher, TaskScheduler taskScheduler,
+            @Value("${app.outbox.minPollIntervalMs: 100}") long minIntervalMs,
+            @Value("${app.outbox.maxPollIntervalMs: 5000}") long maxIntervalMs) {
+        this.outboxPublisher = outboxPublisher;
+        this.taskScheduler = taskScheduler;
+        this.minIntervalMs = Math.max(1, minIntervalMs);
+        this.maxIntervalMs = Math.max(this.minIntervalMs, maxIntervalMs);
+        this.currentIntervalMs = this.minIntervalMs;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        schedule(0);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+    }
+
+    private void pollAndReschedule() {
+        if (!running) {
+            return;
+        }
+        long delayMs;
+        try {
+            delayMs = nextDelay(outboxPublisher.poll());
+        } catch (Exception e) {
+            log.error("Outbox poll failed, backing off", e);
+            delayMs = nextDelay(0);
+        }
+        schedule(delayMs);
+    }
+
+    long nextDelay(int claimed) {
+        if (claimed >= outboxPublisher.getBatchSize()) {
+            currentIntervalMs = minIntervalMs;
+            return 0;
+        }
+        if (claimed > 0) {
+            currentIntervalMs = minIntervalMs;
+        } else {
+            currentIntervalMs = Math.min(currentIntervalMs * 2, maxIntervalMs);
+        }
+        return currentIntervalMs;
+    }
+
+    private void schedule(long delayMs) {
+        if (running) {
+            taskScheduler.schedule(this::pollAndReschedule, Instant.now().plusMillis(delayMs));
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("outbox.poll.interval", this, s -> s.currentIntervalMs)
+                .description("Current delay between idle outbox polls")
+                .baseUnit("milliseconds")
+                .register(registry);
+    }
+}
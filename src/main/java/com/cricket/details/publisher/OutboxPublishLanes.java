@@ -0,0 +1,171 @@
+package com.cricket.details.publisher;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import com.cricket.details.model.OutboxEvent;
+import com.cricket.details.util.ThreadFactories;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Spreads outbox sends over independent lanes keyed by aggregate id.
+ * <p>
+ * Each lane is a single thread, so events of one aggregate are handed to the
+ * producer in the order they were claimed, even when the poll and the fast
+ * path publish at the same time. Lanes run in parallel, and each lane caps its
+ * unacknowledged sends so one slow partition cannot take every buffer slot.
+ * Within a batch, an aggregate's next event is sent only once its previous one
+ * has been acknowledged, so a failure the broker reports late still holds back
+ * that aggregate's later events instead of letting them overtake it.
+ * Cancelling a returned future withdraws an event that has not been handed to
+ * the producer yet, so a caller that stops waiting can reschedule it without
+ * the lane sending it behind its back.
+ * </p>
+ */
+@Component
+public class OutboxPublishLanes {
+
+    private static final long PERMIT_WAIT_MS = 50;
+
+    private final ExecutorService[] lanes;
+    private final Semaphore[] inFlight;
+
+    public OutboxPublishLanes(@Value("${app.outbox.lanes: 0}") int laneCount,
+            @Value("${app.outbox.laneMaxInFlight: 5}") int laneMaxInFlight,
+            @Value("${spring.threads.virtual.enabled: false}") boolean virtualThreads) {
+        int count = laneCount > 0 ? laneCount : Runtime.getRuntime().availableProcessors();
+        this.lanes = new ExecutorService[count];
+        this.inFlight = new Semaphore[count];
+        for (int i = 0; i < count; i++) {
+            lanes[i] = Executors.newSingleThreadExecutor(
+                    ThreadFactories.named("outbox-lane-" + i + "-", virtualThreads));
+            inFlight[i] = new Semaphore(Math.max(1, laneMaxInFlight));
+        }
+    }
+
+    /**
+     * Sends the events through their lanes.
+     *
+     * @param events events in claim order
+     * @param send   starts the send of one event
+     * @return one future per event, in the same order as {@code events}; held
+     *         back events complete with {@link HeldBackException}, and
+     *         cancelling a future withdraws its event if not yet sent
+     */
+    public List<CompletableFuture<SendResult<String, byte[]>>> sendAll(List<OutboxEvent> events,
+            Function<OutboxEvent, CompletableFuture<SendResult<String, byte[]>>> send) {
+        List<CompletableFuture<SendResult<String, byte[]>>> results = new ArrayList<>(events.size());
+        Map<Integer, List<Integer>> byLane = new HashMap<>();
+        for (int i = 0; i < events.size(); i++) {
+            results.add(new CompletableFuture<>());
+            byLane.computeIfAbsent(laneOf(events.get(i).getAggregateId()), lane -> new ArrayList<>()).add(i);
+        }
+        byLane.forEach((lane, indexes) -> lanes[lane].execute(() -> drain(lane, indexes, events, results, send)));
+        return results;
+    }
+
+    private void drain(int lane, List<Integer> indexes, List<OutboxEvent> events,
+            List<CompletableFuture<SendResult<String, byte[]>>> results,
+            Function<OutboxEvent, CompletableFuture<SendResult<String, byte[]>>> send) {
+        Map<String, CompletableFuture<SendResult<String, byte[]>>> lastByKey = new HashMap<>();
+        for (int index : indexes) {
+            OutboxEvent event = events.get(index);
+            CompletableFuture<SendResult<String, byte[]>> result = results.get(index);
+            CompletableFuture<SendResult<String, byte[]>> previous = lastByKey.put(event.getAggregateId(), result);
+            if (previous == null || previous.isDone()) {
+                sendAfter(previous, lane, event, result, send);
+            } else {
+                previous.whenComplete((ignored, ex) -> {
+                    try {
+                        lanes[lane].execute(() -> sendAfter(previous, lane, event, result, send));
+                    } catch (RejectedExecutionException e) {
+                        result.completeExceptionally(e);
+                    }
+                });
+            }
+        }
+    }
+
+    private void sendAfter(CompletableFuture<SendResult<String, byte[]>> previous, int lane, OutboxEvent event,
+            CompletableFuture<SendResult<String, byte[]>> result,
+            Function<OutboxEvent, CompletableFuture<SendResult<String, byte[]>>> send) {
+        if (result.isDone()) {
+            return;
+        }
+        if (previous != null && previous.isCompletedExceptionally()) {
+            result.completeExceptionally(new HeldBackException());
+            return;
+        }
+        try {
+            // wake up now and then so a cancelled event stops waiting for a slot
+            while (!inFlight[lane].tryAcquire(PERMIT_WAIT_MS, TimeUnit.MILLISECONDS)) {
+                if (result.isDone()) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.completeExceptionally(e);
+            return;
+        }
+        if (result.isDone()) {
+            inFlight[lane].release();
+            return;
+        }
+        try {
+            send.apply(event).whenComplete((sendResult, ex) -> {
+                inFlight[lane].release();
+                if (ex == null) {
+                    result.complete(sendResult);
+                } else {
+                    result.completeExceptionally(ex);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight[lane].release();
+            result.completeExceptionally(e);
+        }
+    }
+
+    int laneOf(String aggregateId) {
+        return aggregateId == null ? 0 : Math.floorMod(aggregateId.hashCode(), lanes.length);
+    }
+
+    int getLaneCount() {
+        return lanes.length;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (ExecutorService lane : lanes) {
+            lane.shutdown();
+        }
+    }
+
+    /**
+     * Marks an event that was not sent because an earlier event of the same
+     * aggregate failed in the same batch.
+     */
+    static class HeldBackException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        HeldBackException() {
+            super("Held back behind a failed event of the same aggregate", null, false, false);
+        }
+    }
+}
@@ -1,20 +1,26 @@
 package com.cricket.details.publisher;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
-import org.springframework.util.concurrent.ListenableFuture;
-import org.springframework.scheduling.annotation.Scheduled;
 
 import com.cricket.details.model.OutboxEvent;
 import com.cricket.details.repository.OutboxRepository;
@@ -27,45 +33,179 @@ public class OutboxPublisher {
     private final Logger log = LoggerFactory.getLogger(OutboxPublisher.class);
 
     private final OutboxRepository outboxRepository;
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final OutboxLeaseManager outboxLeaseManager;
+    private final OutboxRetryBackoff retryBackoff;
+    private final OutboxPublishLanes publishLanes;
+    private final OutboxMetrics outboxMetrics;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
     private final String mainTopic;
     private final String dlqTopic;
     private final int maxRetries;
     private final int batchSize;
+    private final boolean batchPublish;
+    private final long sendTimeoutMs;
 
     public OutboxPublisher(OutboxRepository outboxRepository,
-            KafkaTemplate<String, String> kafkaTemplate,
+            OutboxLeaseManager outboxLeaseManager,
+            OutboxRetryBackoff retryBackoff,
+            OutboxPublishLanes publishLanes,
+            OutboxMetrics outboxMetrics,
+            KafkaTemplate<String, byte[]> kafkaTemplate,
             @Value("${app.kafka.mainTopic: user-scores.v1}") String mainTopic,
             @Value("${app.kafka.dlqTopic: user-scores.dlq}") String dlqTopic,
             @Value("${app.outbox.maxRetries: 5}") int maxRetries,
-            @Value("${app.outbox.batchSize: 20}") int batchSize) {
+            @Value("${app.outbox.batchSize: 20}") int batchSize,
+            @Value("${app.outbox.batchPublish: true}") boolean batchPublish,
+            @Value("${app.outbox.sendTimeoutMs: 10000}") long sendTimeoutMs) {
         this.batchSize = batchSize;
+        this.batchPublish = batchPublish;
+        this.sendTimeoutMs = sendTimeoutMs;
         this.dlqTopic = dlqTopic;
         this.mainTopic = mainTopic;
         this.kafkaTemplate = kafkaTemplate;
         this.maxRetries = maxRetries;
         this.outboxRepository = outboxRepository;
+        this.outboxLeaseManager = outboxLeaseManager;
+        this.retryBackoff = retryBackoff;
+        this.publishLanes = publishLanes;
+        this.outboxMetrics = outboxMetrics;
 
     }
 
-    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:2000}")
-    @Transactional
-    public void poll() {
-        Pageable page = PageRequest.of(0, batchSize);
-        List<OutboxEvent> outboxEventList = outboxRepository.fetchPendingEvents(page);
+    /**
+     * Claims and publishes one page of pending events. Driven by
+     * {@link OutboxPollScheduler}, which uses the returned count to decide
+     * when to poll again.
+     *
+     * @return number of events claimed in this poll
+     */
+    public int poll() {
+        // claim commits before sending, so no row lock is held while waiting on Kafka
+        List<OutboxEvent> outboxEventList = outboxLeaseManager.claim(batchSize);
+        if (batchPublish) {
+            publishBatch(outboxEventList);
+            return outboxEventList.size();
+        }
         for (OutboxEvent e : outboxEventList) {
             tryPublish(e);
         }
+        return outboxEventList.size();
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Publishes a whole page of events through {@link OutboxPublishLanes},
+     * waits for all acks together and then records the outcome with one bulk
+     * update per status. Updates only touch rows still leased to this node, so
+     * a late ack after the lease expired cannot overwrite another node's
+     * result.
+     * <p>
+     * A retried event never becomes due before an earlier failed event of the
+     * same aggregate, and events held back behind it are rescheduled with it
+     * without spending an attempt. Events still queued or unacknowledged when
+     * {@code app.outbox.sendTimeoutMs} runs out are withdrawn from their lane
+     * and rescheduled without spending an attempt either; one that was
+     * already handed to the producer may then be delivered twice, which the
+     * outbox allows anyway.
+     * </p>
+     *
+     * @param events the events leased by {@link #poll()}
+     */
+    public void publishBatch(List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<CompletableFuture<SendResult<String, byte[]>>> futures = publishLanes.sendAll(events, this::send);
+        awaitAll(futures);
+
+        Instant now = Instant.now();
+        List<Long> sent = new ArrayList<>();
+        // grouped by due time so each group is one bulk update
+        Map<Instant, List<Long>> retry = new TreeMap<>();
+        Map<Instant, List<Long>> heldBack = new TreeMap<>();
+        int timedOut = 0;
+        List<OutboxEvent> failed = new ArrayList<>();
+        Map<Integer, Instant> retryAtByAttempt = new HashMap<>();
+        Map<String, Instant> blockedUntil = new HashMap<>();
+        for (int i = 0; i < events.size(); i++) {
+            OutboxEvent event = events.get(i);
+            CompletableFuture<SendResult<String, byte[]>> future = futures.get(i);
+            String key = event.getAggregateId();
+            // cancel only wins if the send has not completed meanwhile
+            if (!future.isDone() && future.cancel(false)) {
+                timedOut++;
+                heldBack.computeIfAbsent(blockedUntil.getOrDefault(key, now), at -> new ArrayList<>())
+                        .add(event.getId());
+            } else if (future.state() == Future.State.SUCCESS) {
+                sent.add(event.getId());
+            } else if (future.state() == Future.State.FAILED
+                    && future.exceptionNow() instanceof OutboxPublishLanes.HeldBackException) {
+                heldBack.computeIfAbsent(blockedUntil.getOrDefault(key, now), at -> new ArrayList<>())
+                        .add(event.getId());
+            } else if (event.getRetryCount() + 1 > maxRetries) {
+                failed.add(event);
+                blockedUntil.putIfAbsent(key, now);
+            } else {
+                Instant retryAt = retryAtByAttempt.computeIfAbsent(event.getRetryCount() + 1,
+                        attempt -> now.plus(retryBackoff.delayFor(attempt)));
+                retryAt = blockedUntil.merge(key, retryAt, (a, b) -> a.isAfter(b) ? a : b);
+                retry.computeIfAbsent(retryAt, at -> new ArrayList<>()).add(event.getId());
+            }
+        }
+
+        String node = outboxLeaseManager.getNodeId();
+        if (!sent.isEmpty()) {
+            outboxRepository.markSent(sent, node, now);
+        }
+        retry.forEach((retryAt, ids) -> outboxRepository.markForRetry(ids, node, now, retryAt));
+        heldBack.forEach((retryAt, ids) -> outboxRepository.reschedule(ids, node, retryAt));
+        if (!failed.isEmpty()) {
+            outboxRepository.markFailed(failed.stream().map(OutboxEvent::getId).toList(), node, now);
+            failed.forEach(this::sendToDLQ);
+        }
+        int retried = retry.values().stream().mapToInt(List::size).sum();
+        outboxMetrics.recordRetries(mainTopic, retried);
+        outboxMetrics.recordDeadLettered(dlqTopic, failed.size());
+        // one line per batch; per-event outcomes are in the outbox.publish.* meters
+        if (retried > 0 || !failed.isEmpty() || timedOut > 0) {
+            log.warn("Published outbox batch to topic={}: sent={}, retry={}, heldBack={}, timedOut={}, failed={}",
+                    mainTopic, sent.size(), retried, heldBack.values().stream().mapToInt(List::size).sum(),
+                    timedOut, failed.size());
+        } else {
+            log.debug("Published outbox batch to topic={}: sent={}", mainTopic, sent.size());
+        }
+    }
+
+    private CompletableFuture<SendResult<String, byte[]>> send(OutboxEvent event) {
+        return kafkaTemplate.send(toRecord(mainTopic, event)).whenComplete((result, ex) -> {
+            if (ex == null) {
+                outboxMetrics.recordSent(mainTopic, event, Instant.now());
+            }
+        });
+    }
+
+    private void awaitAll(List<CompletableFuture<SendResult<String, byte[]>>> futures) {
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // individual outcomes are read from each future below
+            log.warn("Outbox batch did not complete cleanly: {}", e.getMessage());
+        }
     }
 
     @Transactional
     public void tryPublish(OutboxEvent event) {
-        CompletableFuture<SendResult<String, String>> future = kafkaTemplate.send(mainTopic, event.getAggregateId(),
-                event.getPayload());
+        CompletableFuture<SendResult<String, byte[]>> future = send(event);
 
         future.whenComplete((result, ex) -> {
             if (ex == null) {
-                log.info("Successfully published event with id={} to topic={}",
+                log.debug("Successfully published event with id={} to topic={}",
                         event.getAggregateId(), mainTopic);
                 updateStatus(event);
             } else {
@@ -81,6 +221,8 @@ public class OutboxPublisher {
         var record = outboxRepository.findById(event.getId()).orElseThrow();
         record.setStatus("SENT");
         record.setSentAt(Instant.now());
+        record.setClaimedBy(null);
+        record.setClaimedUntil(null);
         outboxRepository.save(record);
     }
 
@@ -89,8 +231,11 @@ public class OutboxPublisher {
         var record = outboxRepository.findById(event.getId()).orElseThrow();
         record.setLastAttemptAt(Instant.now());
         record.setRetryCount(record.getRetryCount() + 1);
+        record.setClaimedBy(null);
+        record.setClaimedUntil(null);
 
         if (record.getRetryCount() > maxRetries) {
+            outboxMetrics.recordDeadLettered(dlqTopic, 1);
             record.setStatus("FAILED");
             outboxRepository.save(record);
 
@@ -98,29 +243,38 @@ public class OutboxPublisher {
             sendToDLQ(record);
         } else {
             // Retry later by marking it as pending again
+            outboxMetrics.recordRetries(mainTopic, 1);
             record.setStatus("PENDING");
+            record.setNextAttemptAt(Instant.now().plus(retryBackoff.delayFor(record.getRetryCount())));
             outboxRepository.save(record);
         }
     }
 
+    // the content type header tells consumers which codec wrote the payload
+    private static ProducerRecord<String, byte[]> toRecord(String topic, OutboxEvent event) {
+        ProducerRecord<String, byte[]> record = new ProducerRecord<>(topic, event.getAggregateId(), event.getPayload());
+        record.headers().add(KafkaHeaders.CONTENT_TYPE, event.getContentType().getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+
     private void sendToDLQ(OutboxEvent record) {
         try {
-            CompletableFuture<SendResult<String, String>> future = kafkaTemplate.send(mainTopic,
-                    record.getAggregateId(),
-                    record.getPayload());
+            CompletableFuture<SendResult<String, byte[]>> future = kafkaTemplate.send(toRecord(dlqTopic, record));
 
             future.whenComplete((result, ex) -> {
                 if (ex == null) {
-                    log.info("Successfully published event with id={} to topic={}",
+                    log.debug("Successfully published event with id={} to topic={}",
                             record.getAggregateId(), dlqTopic);
                 } else {
+                    outboxMetrics.recordSendFailed(dlqTopic);
                     log.error("Failed to publish event with id={} to topic={}. Error: {}",
                             record.getAggregateId(), dlqTopic, ex.getMessage(), ex);
                 }
             });
 
         } catch (Exception e) {
-            System.err.println("DLQ send threw exception for record: " + record.getId());
+            outboxMetrics.recordSendFailed(dlqTopic);
+            log.error("DLQ send threw for outbox event id={}", record.getId(), e);
         }
     }
 }
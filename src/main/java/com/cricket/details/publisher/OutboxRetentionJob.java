@@ -0,0 +1,83 @@
+package com.cricket.details.publisher;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.cricket.details.repository.OutboxRepository;
+
+/**
+ * Removes finished outbox rows so the table and the pending scan do not grow
+ * with history.
+ * <p>
+ * SENT rows are removed once they are older than the SENT retention, FAILED
+ * rows are kept longer for investigation. Rows are deleted in bounded batches
+ * with a cap per run, and can optionally be archived through
+ * {@link OutboxArchiveWriter} before they are deleted.
+ * </p>
+ */
+@Component
+public class OutboxRetentionJob {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRetentionJob.class);
+
+    private final OutboxRepository outboxRepository;
+    private final OutboxArchiveWriter archiveWriter;
+    private final Duration sentRetention;
+    private final Duration failedRetention;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final boolean archive;
+
+    public OutboxRetentionJob(OutboxRepository outboxRepository, OutboxArchiveWriter archiveWriter,
+            @Value("${app.outbox.retention.sentRetentionMs: 86400000}") long sentRetentionMs,
+            @Value("${app.outbox.retention.failedRetentionMs: 604800000}") long failedRetentionMs,
+            @Value("${app.outbox.retention.batchSize: 500}") int batchSize,
+            @Value("${app.outbox.retention.maxBatchesPerRun: 20}") int maxBatchesPerRun,
+            @Value("${app.outbox.retention.archive: false}") boolean archive) {
+        this.outboxRepository = outboxRepository;
+        this.archiveWriter = archiveWriter;
+        this.sentRetention = Duration.ofMillis(sentRetentionMs);
+        this.failedRetention = Duration.ofMillis(failedRetentionMs);
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.archive = archive;
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.retention.intervalMs:60000}")
+    public void purge() {
+        Instant now = Instant.now();
+        int sent = purge(page -> outboxRepository.findSentIdsBefore(now.minus(sentRetention), page));
+        int failed = purge(page -> outboxRepository.findFailedIdsBefore(now.minus(failedRetention), page));
+        if (sent > 0 || failed > 0) {
+            log.info("Outbox retention removed sent={} failed={} archived={}", sent, failed, archive);
+        }
+    }
+
+    private int purge(Function<Pageable, List<Long>> expiredIds) {
+        int removed = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<Long> ids = expiredIds.apply(PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            if (archive) {
+                archiveWriter.append(outboxRepository.findAllById(ids));
+            }
+            removed += outboxRepository.deleteByIds(ids);
+            if (ids.size() < batchSize) {
+                break;
+            }
+        }
+        return removed;
+    }
+}
@@ -0,0 +1,39 @@
+package com.cricket.details.publisher;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Computes when a failed outbox event may be attempted again.
+ * <p>
+ * The delay doubles with every attempt up to a cap, and half of it is random
+ * jitter so events that failed together during an outage do not all retry
+ * in the same poll.
+ * </p>
+ */
+@Component
+public class OutboxRetryBackoff {
+
+    private final long baseMs;
+    private final long maxMs;
+
+    public OutboxRetryBackoff(@Value("${app.outbox.retryBackOffMillis: 1000}") long baseMs,
+            @Value("${app.outbox.maxRetryBackOffMillis: 60000}") long maxMs) {
+        this.baseMs = baseMs;
+        this.maxMs = Math.max(baseMs, maxMs);
+    }
+
+    /**
+     * @param attempt the attempt that just failed, starting at 1
+     * @return delay before the next attempt
+     */
+    public Duration delayFor(int attempt) {
+        int shift = Math.min(Math.max(attempt - 1, 0), 30);
+        long exponential = Math.min(baseMs << shift, maxMs);
+        long half = exponential / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(half + 1));
+    }
+}
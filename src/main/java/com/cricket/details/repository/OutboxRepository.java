@@ -1,21 +1,90 @@
 package com.cricket.details.repository;
 
+import java.time.Instant;
 import java.util.List;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.cricket.details.model.OutboxEvent;
 
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface OutboxRepository extends JpaRepository<OutboxEvent, Long> {
 
+    /**
+     * Fetches the pending events that are due for an attempt and not leased by
+     * a live publisher, earliest due first and in insertion order within the
+     * same due time. Rows locked by a concurrent claim are skipped (lock timeout
+     * -2 is SKIP LOCKED) so several publishers can claim disjoint slices.
+     *
+     * @param now      current time; leases ending before it are treated as free
+     *                 and events scheduled after it are skipped
+     * @param pageable maximum number of rows to claim
+     * @return events the caller may lease
+     */
     @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("select o from OutboxEvent o where o.status = 'PENDING' order by o.createdAt")
-    public List<OutboxEvent> fetchPendingEvents(Pageable pageable);
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select o from OutboxEvent o where o.status = 'PENDING' and o.nextAttemptAt <= :now and (o.claimedUntil is null or o.claimedUntil < :now) order by o.nextAttemptAt, o.id")
+    public List<OutboxEvent> fetchPendingEvents(@Param("now") Instant now, Pageable pageable);
+
+    /**
+     * Locks the given events for an immediate claim, skipping any that are no
+     * longer pending or are already leased.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select o from OutboxEvent o where o.id in :ids and o.status = 'PENDING' and (o.claimedUntil is null or o.claimedUntil < :now) order by o.createdAt")
+    public List<OutboxEvent> fetchPendingEventsByIds(@Param("ids") List<Long> ids, @Param("now") Instant now);
+
+    public long countByStatus(String status);
+
+    @Query("select min(o.createdAt) from OutboxEvent o where o.status = 'PENDING'")
+    public Instant findOldestPendingCreatedAt();
+
+    @Query("select o.id from OutboxEvent o where o.status = 'SENT' and o.sentAt < :cutoff order by o.sentAt")
+    public List<Long> findSentIdsBefore(@Param("cutoff") Instant cutoff, Pageable pageable);
+
+    @Query("select o.id from OutboxEvent o where o.status = 'FAILED' and o.lastAttemptAt < :cutoff order by o.lastAttemptAt")
+    public List<Long> findFailedIdsBefore(@Param("cutoff") Instant cutoff, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("delete from OutboxEvent o where o.id in :ids")
+    public int deleteByIds(@Param("ids") List<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query("update OutboxEvent o set o.status = 'SENT', o.sentAt = :now, o.claimedBy = null, o.claimedUntil = null where o.id in :ids and o.claimedBy = :node")
+    public int markSent(@Param("ids") List<Long> ids, @Param("node") String node, @Param("now") Instant now);
+
+    @Transactional
+    @Modifying
+    @Query("update OutboxEvent o set o.status = 'PENDING', o.retryCount = o.retryCount + 1, o.lastAttemptAt = :now, o.nextAttemptAt = :nextAttemptAt, o.claimedBy = null, o.claimedUntil = null where o.id in :ids and o.claimedBy = :node")
+    public int markForRetry(@Param("ids") List<Long> ids, @Param("node") String node, @Param("now") Instant now,
+            @Param("nextAttemptAt") Instant nextAttemptAt);
+
+    /**
+     * Releases events that were not attempted and makes them due at
+     * {@code nextAttemptAt}, without counting an attempt.
+     */
+    @Transactional
+    @Modifying
+    @Query("update OutboxEvent o set o.nextAttemptAt = :nextAttemptAt, o.claimedBy = null, o.claimedUntil = null where o.id in :ids and o.claimedBy = :node")
+    public int reschedule(@Param("ids") List<Long> ids, @Param("node") String node,
+            @Param("nextAttemptAt") Instant nextAttemptAt);
+
+    @Transactional
+    @Modifying
+    @Query("update OutboxEvent o set o.status = 'FAILED', o.retryCount = o.retryCount + 1, o.lastAttemptAt = :now, o.claimedBy = null, o.claimedUntil = null where o.id in :ids and o.claimedBy = :node")
+    public int markFailed(@Param("ids") List<Long> ids, @Param("node") String node, @Param("now") Instant now);
 }
@@ -1,19 +1,76 @@
 package com.cricket.details.repository;
 
-import org.springframework.data.domain.Page;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.cricket.details.model.Score;
+import com.cricket.details.model.ScoreResponse;
+import com.cricket.details.model.ScoreTotals;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface ScoreRepository extends JpaRepository<Score, Long> {
+
+    /**
+     * Finds one page of a user's scores, newest first, starting below a
+     * keyset cursor. Seeks on the primary key instead of skipping rows, so
+     * later pages cost the same as the first. Selects straight into
+     * {@link ScoreResponse}, so nothing is loaded lazily or tracked by the
+     * persistence context.
+     *
+     * @param username owner of the scores
+     * @param beforeId only scores with a smaller id are returned; null for the
+     *                 first page
+     * @param pageable page size; the page number is ignored
+     * @return up to {@code pageable.getPageSize()} scores
+     */
+    @Query("select new com.cricket.details.model.ScoreResponse(s.id, s.match, s.runs, s.result, u.username) from Score s join s.user u where u.username = :username and (:beforeId is null or s.id < :beforeId) order by s.id desc")
+    public List<ScoreResponse> findPageByUsername(@Param("username") String username, @Param("beforeId") Long beforeId,
+            Pageable pageable);
+
+    /**
+     * Streams all scores of a user, newest first, off a database cursor, as
+     * {@link ScoreResponse} projections. Must be consumed inside a
+     * transaction and closed afterwards.
+     *
+     * @param username owner of the scores
+     * @return scores in id order, fetched in chunks of the fetch size
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+    @Query("select new com.cricket.details.model.ScoreResponse(s.id, s.match, s.runs, s.result, u.username) from Score s join s.user u where u.username = :username order by s.id desc")
+    public Stream<ScoreResponse> streamByUsername(@Param("username") String username);
+
+    /**
+     * Streams every score as a {@link ScoreResponse}, for warming in-memory
+     * views. Must be consumed inside a transaction and closed afterwards.
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+    @Query("select new com.cricket.details.model.ScoreResponse(s.id, s.match, s.runs, s.result, u.username) from Score s join s.user u")
+    public Stream<ScoreResponse> streamAll();
+
+    /**
+     * Finds the best innings of one match, for refilling its leaderboard.
+     *
+     * @param match    the match
+     * @param pageable board size; the page number is ignored
+     * @return most runs first, ties broken by id
+     */
+    @Query("select new com.cricket.details.model.ScoreResponse(s.id, s.match, s.runs, s.result, u.username) from Score s join s.user u where s.match = :match order by s.runs desc, s.id asc")
+    public List<ScoreResponse> findTopByMatch(@Param("match") String match, Pageable pageable);
+
     /**
-     * Finds the score of the user by username
-     * 
-     * @param username
-     * @return list of scores of the user
+     * Totals the scores of a range of users per result text, for rebuilding
+     * their statistics.
      */
-    Page<Score> findByUser_Username(String username);
+    @Query("select new com.cricket.details.model.ScoreTotals(s.user.id, s.result, count(s), sum(s.runs), max(s.runs)) from Score s where s.user.id between :fromId and :toId group by s.user.id, s.result")
+    public List<ScoreTotals> totalsByUserAndResult(@Param("fromId") Long fromId, @Param("toId") Long toId);
 
 }
@@ -0,0 +1,43 @@
+package com.cricket.details.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.cricket.details.model.ScoreResponse;
+import com.cricket.details.model.ScoreTotals;
+import com.cricket.details.model.ScoreView;
+
+import jakarta.persistence.QueryHint;
+
+/**
+ * Read side of the scores, mirroring the read queries of
+ * {@link ScoreRepository} on {@link ScoreView}.
+ */
+@Repository
+public interface ScoreViewRepository extends JpaRepository<ScoreView, Long> {
+
+    @Query("select v.eventId from ScoreView v where v.eventId in :eventIds")
+    public List<String> findExistingEventIds(@Param("eventIds") Collection<String> eventIds);
+
+    @Query("select new com.cricket.details.model.ScoreResponse(v.scoreId, v.match, v.runs, v.result, v.username) from ScoreView v where v.username = :username and (:beforeId is null or v.scoreId < :beforeId) order by v.scoreId desc")
+    public List<ScoreResponse> findPageByUsername(@Param("username") String username,
+            @Param("beforeId") Long beforeId, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+    @Query("select new com.cricket.details.model.ScoreResponse(v.scoreId, v.match, v.runs, v.result, v.username) from ScoreView v where v.username = :username order by v.scoreId desc")
+    public Stream<ScoreResponse> streamByUsername(@Param("username") String username);
+
+    /**
+     * Totals a user's scores per result text; the user id is left null.
+     */
+    @Query("select new com.cricket.details.model.ScoreTotals(cast(null as Long), v.result, count(v), sum(v.runs), max(v.runs)) from ScoreView v where v.username = :username group by v.result")
+    public List<ScoreTotals> totalsByUsername(@Param("username") String username);
+}
@@ -1,12 +1,20 @@
 package com.cricket.details.repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.cricket.details.model.User;
 
+import jakarta.persistence.LockModeType;
+
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
@@ -17,4 +25,44 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return an Optional containing the User if found or empty if not
      */
     Optional<User> findByUsername(String username);
+
+    /**
+     * Locks a user row; used to serialize creating rows that hang off the user.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select u from User u where u.id = :id")
+    Optional<User> lockById(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select u from User u where u.id between :fromId and :toId")
+    List<User> lockRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * Replaces a password hash, unless the password was changed since
+     * {@code currentHash} was read.
+     *
+     * @return 1 if updated, 0 otherwise
+     */
+    @Modifying
+    @Transactional
+    @Query("update User u set u.password = :newHash where u.id = :id and u.password = :currentHash")
+    int updatePasswordHash(@Param("id") Long id, @Param("currentHash") String currentHash,
+            @Param("newHash") String newHash);
+
+    /**
+     * Sets the enabled flag and role of an account.
+     *
+     * @return 1 if updated, 0 if no such user exists
+     */
+    @Modifying
+    @Transactional
+    @Query("update User u set u.enabled = :enabled, u.role = :role where u.username = :username")
+    int updateAccountState(@Param("username") String username, @Param("enabled") boolean enabled,
+            @Param("role") String role);
+
+    @Query("select min(u.id) from User u")
+    Long findMinId();
+
+    @Query("select max(u.id) from User u")
+    Long findMaxId();
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.cricket.details.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.cricket.details.model.UserScoreStats;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface UserScoreStatsRepository extends JpaRepository<UserScoreStats, Long> {
+
+    public Optional<UserScoreStats> findByUsername(String username);
+
+    /**
+     * Adds a delta to a user's statistics in place. The row lock taken by the
+     * update serializes concurrent writers of the same user without a read
+     * first.
+     *
+     * @return 1 if the user already had statistics, 0 otherwise
+     */
+    @Modifying
+    @Query("update UserScoreStats s set s.innings = s.innings + :innings, s.totalRuns = s.totalRuns + :runs, s.bestRuns = case when s.bestRuns < :best then :best else s.bestRuns end, s.wins = s.wins + :wins, s.losses = s.losses + :losses, s.draws = s.draws + :draws, s.otherResults = s.otherResults + :other where s.userId = :userId")
+    public int increment(@Param("userId") Long userId, @Param("innings") long innings, @Param("runs") long runs,
+            @Param("best") int best, @Param("wins") long wins, @Param("losses") long losses,
+            @Param("draws") long draws, @Param("other") long other);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from UserScoreStats s where s.userId between :fromId and :toId")
+    public List<UserScoreStats> lockRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+}
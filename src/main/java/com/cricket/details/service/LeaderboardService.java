@@ -0,0 +1,17 @@
+package com.cricket.details.service;
+
+import java.util.List;
+
+import com.cricket.details.model.LeaderboardEntry;
+import com.cricket.details.model.LeaderboardRank;
+import com.cricket.details.model.ScoreResponse;
+
+public interface LeaderboardService {
+
+    public void record(List<ScoreResponse> scores);
+
+    public List<LeaderboardEntry> getTop(String match, int limit);
+
+    public LeaderboardRank getRank(String username, String match);
+
+}
@@ -0,0 +1,13 @@
+package com.cricket.details.service;
+
+import com.cricket.details.model.ScoreHistory;
+
+public interface ScoreHistoryService {
+
+    public String currentVersion(String username);
+
+    public ScoreHistory getHistory(String username);
+
+    public void invalidate(String username);
+
+}
@@ -0,0 +1,13 @@
+package com.cricket.details.service;
+
+import java.io.InputStream;
+
+import com.cricket.details.model.ScoreImportFormat;
+import com.cricket.details.model.ScoreImportReport;
+
+public interface ScoreImportService {
+
+    public ScoreImportReport importScores(String username, InputStream body, ScoreImportFormat format,
+            long resumeAfter);
+
+}
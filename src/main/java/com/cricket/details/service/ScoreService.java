@@ -1,16 +1,23 @@
 package com.cricket.details.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
-import org.springframework.data.domain.Page;
-
+import com.cricket.details.model.ScoreBatchResponse;
+import com.cricket.details.model.ScorePage;
 import com.cricket.details.model.ScoreRequest;
-import com.cricket.details.model.ScoreResponse;
 
 public interface ScoreService {
 
     public void addScore(String username, ScoreRequest scoreRequest);
 
-    public List<ScoreResponse> getScores(String username);
+    public ScoreBatchResponse addScores(String username, List<ScoreRequest> scoreRequests);
+
+    public ScorePage getScores(String username, Long cursor, int limit);
+
+    public void requireUser(String username);
+
+    public void streamScores(String username, OutputStream out) throws IOException;
 
 }
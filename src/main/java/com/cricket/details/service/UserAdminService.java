@@ -0,0 +1,11 @@
+package com.cricket.details.service;
+
+import com.cricket.details.model.UserAccountUpdate;
+
+import jakarta.validation.Valid;
+
+public interface UserAdminService {
+
+    public void updateAccount(String username, @Valid UserAccountUpdate update);
+
+}
@@ -0,0 +1,13 @@
+package com.cricket.details.service;
+
+import java.util.Optional;
+
+import com.cricket.details.model.User;
+
+public interface UserLookupService {
+
+    public Optional<User> findByUsername(String username);
+
+    public void evict(String username);
+
+}
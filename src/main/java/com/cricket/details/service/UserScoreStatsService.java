@@ -0,0 +1,15 @@
+package com.cricket.details.service;
+
+import java.util.List;
+
+import com.cricket.details.model.Score;
+import com.cricket.details.model.User;
+import com.cricket.details.model.UserScoreStatsResponse;
+
+public interface UserScoreStatsService {
+
+    public void record(User user, List<Score> scores);
+
+    public UserScoreStatsResponse getStats(String username);
+
+}
@@ -2,17 +2,14 @@ package com.cricket.details.service.impl;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
-import org.springframework.http.ResponseEntity;
-import org.springframework.retry.annotation.CircuitBreaker;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
-import org.springframework.web.client.RestTemplate;
 
 import com.cricket.details.exception.InvalidCredentialsException;
+import com.cricket.details.exception.PasswordHashingBusyException;
 import com.cricket.details.exception.UserAlreadyExistsException;
 import com.cricket.details.exception.UserNotFoundException;
 import com.cricket.details.model.AuthRequest;
@@ -20,9 +17,9 @@ import com.cricket.details.model.AuthResponse;
 import com.cricket.details.model.User;
 import com.cricket.details.repository.UserRepository;
 import com.cricket.details.service.AuthService;
+import com.cricket.details.service.UserLookupService;
 import com.cricket.details.util.JwtUtil;
 
-import io.github.resilience4j.retry.annotation.Retry;
 import jakarta.validation.Valid;
 
 /**
@@ -42,24 +39,29 @@ public class AuthServiceImpl implements AuthService {
     private static final Logger log = LoggerFactory.getLogger(AuthServiceImpl.class);
 
     private final UserRepository userRepository;
+    private final UserLookupService userLookupService;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
-    private final RestTemplate restTemplate;
+    private final LoginMessageCache loginMessageCache;
 
     /**
      * Constructs an AuthServiceImpl with the required dependencies.
      *
-     * @param userRepository  repository for user persistence
-     * @param passwordEncoder encoder for secure password storage
-     * @param jwtUtil         utility for generating JWT tokens
+     * @param userRepository    repository for user persistence
+     * @param userLookupService cached user lookup, invalidated on writes
+     * @param passwordEncoder   encoder for secure password storage
+     * @param jwtUtil           utility for generating JWT tokens
+     * @param loginMessageCache shared login message from the notification
+     *                          service
      */
 
-    public AuthServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtUtil jwtUtil,
-            RestTemplate restTemplate) {
+    public AuthServiceImpl(UserRepository userRepository, UserLookupService userLookupService,
+            PasswordEncoder passwordEncoder, JwtUtil jwtUtil, LoginMessageCache loginMessageCache) {
         this.userRepository = userRepository;
+        this.userLookupService = userLookupService;
         this.passwordEncoder = passwordEncoder;
         this.jwtUtil = jwtUtil;
-        this.restTemplate = restTemplate;
+        this.loginMessageCache = loginMessageCache;
     }
 
     /**
@@ -69,6 +71,11 @@ public class AuthServiceImpl implements AuthService {
      * Passwords are securely encoded before saving.
      * On success, returns a JWT token for the new user.
      * </p>
+     * <p>
+     * The hash is computed outside any transaction so no connection is held
+     * while bcrypt runs; the unique username index settles concurrent
+     * registrations of the same name.
+     * </p>
      *
      * @param authRequest contains the username and password for registration; must
      *                    be valid
@@ -77,7 +84,6 @@ public class AuthServiceImpl implements AuthService {
      */
 
     @Override
-    @Transactional
     public AuthResponse register(AuthRequest authRequest) {
         log.info("registering user {}", authRequest.username());
         if (userRepository.findByUsername(authRequest.username()).isPresent()) {
@@ -87,54 +93,72 @@ public class AuthServiceImpl implements AuthService {
         User user = new User(null, authRequest.username(), passwordEncoder.encode(authRequest.password()),
                 "ROLE_USER", true);
 
-        userRepository.save(user);
-        return new AuthResponse(jwtUtil.generateToken(authRequest.username()));
+        try {
+            userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            throw new UserAlreadyExistsException("Username already taken");
+        }
+        userLookupService.evict(user.getUsername());
+        return new AuthResponse(jwtUtil.generateToken(user));
     }
 
     /**
      * Authenticates a user with the provided credentials.
      * <p>
      * Throws an exception if the user is not found or the password is invalid.
-     * On success, returns a JWT token for the authenticated user.
+     * On success, returns a JWT token for the authenticated user. A password
+     * stored with weaker settings than the configured encoder is re-hashed
+     * while the raw password is at hand.
      * </p>
      *
      * @param authRequest contains the username and password for login; must be
      *                    valid
      * @return an AuthResponse containing the JWT token
-     * @throws InvalidCredentialsException if the password does not match
-     * @throws RuntimeException            if the user is not found
+     * @throws InvalidCredentialsException  if the password does not match
+     * @throws RuntimeException             if the user is not found
+     * @throws PasswordHashingBusyException if the hashing pool is saturated
      */
 
     @Override
     public AuthResponse login(AuthRequest authRequest) {
         log.info("Login attempt for user {}", authRequest.username());
-        User user = userRepository.findByUsername(authRequest.username())
+        User user = userLookupService.findByUsername(authRequest.username())
                 .orElseThrow(() -> new UserNotFoundException("User not found"));
 
         if (!passwordEncoder.matches(authRequest.password(), user.getPassword())) {
             throw new InvalidCredentialsException("Invalid Credentials");
         }
-        return new AuthResponse(jwtUtil.generateToken(authRequest.username()));
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            upgradePassword(user, authRequest.password());
+        }
+        return new AuthResponse(jwtUtil.generateToken(user));
 
     }
 
-    @Override
-    @Retry(name = "userServiceRetry", fallbackMethod = "fallbackGetUser")
-    @CircuitBreaker(name = "userServiceCB", fallbackMethod = "fallbackGetUser")
-    public String getLoginMessage(@Valid AuthRequest authRequest) {
-        ResponseEntity<String> response = restTemplate.getForEntity("http://localhost:8082/getNotification",
-                String.class);
-        if (!response.getStatusCode().is2xxSuccessful()) {
-            throw new RuntimeException("Failed to fetch from notification service");
+    private void upgradePassword(User user, String rawPassword) {
+        try {
+            if (userRepository.updatePasswordHash(user.getId(), user.getPassword(),
+                    passwordEncoder.encode(rawPassword)) > 0) {
+                userLookupService.evict(user.getUsername());
+                log.info("Re-hashed the password of user {} with the current strength", user.getUsername());
+            }
+        } catch (PasswordHashingBusyException e) {
+            // the login itself succeeded; the upgrade is tried again on a later login
+            log.debug("Skipped password re-hash for user {}: {}", user.getUsername(), e.getMessage());
         }
-        return response.getBody();
     }
 
-    // Fallback method handles both Retry and Circuit Breaker failures
-    public String fallbackGetUser(String userId, Throwable t) {
-        log.error("Failed to fetch user {}. Reason: {}", userId, t.getMessage());
-        // Optionally fetch last known value from cache/DB
-        return "default-user";
+    /**
+     * Returns the login message, which is the same for every user.
+     * <p>
+     * Served from {@link LoginMessageCache}: concurrent callers share one
+     * upstream call, and the last good message is served while it refreshes
+     * or while the notification service is failing.
+     * </p>
+     */
+    @Override
+    public String getLoginMessage(@Valid AuthRequest authRequest) {
+        return loginMessageCache.get();
     }
 
 }
@@ -0,0 +1,141 @@
+package com.cricket.details.service.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.cricket.details.model.ScoreHistory;
+import com.cricket.details.model.ScoreResponse;
+import com.cricket.details.model.ScoresCreated;
+import com.cricket.details.service.ScoreHistoryService;
+import com.cricket.details.service.ScoreService;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Implementation of {@link ScoreHistoryService} that versions each user's
+ * score history and keeps the serialized JSON of the current version.
+ * <p>
+ * A version is {@code <epoch>-<n>}: the epoch changes on every start, and
+ * {@code n} comes from one counter for all users, so a version is never
+ * handed out twice even after its entry has been evicted. Committed score
+ * writes move the user to a new version, so a poll whose ETag still matches
+ * is answered from memory alone, and one that does not reads and serializes
+ * the history once for all concurrent callers. Versions are per instance;
+ * entries also expire after {@code app.scores.history.ttlMs}, which bounds
+ * how long writes made through another instance can go unseen.
+ * </p>
+ */
+@Service
+public class CachingScoreHistoryServiceImpl implements ScoreHistoryService, MeterBinder {
+
+    private record HistoryKey(String username, long version) {
+    }
+
+    private final ScoreService scoreService;
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong sequence = new AtomicLong();
+    private final Cache<String, Long> versions;
+    private final AsyncCache<HistoryKey, byte[]> histories;
+
+    public CachingScoreHistoryServiceImpl(ScoreService scoreService,
+            @Value("${app.scores.history.maxUsers:10000}") long maxUsers,
+            @Value("${app.scores.history.maxBytes:67108864}") long maxBytes,
+            @Value("${app.scores.history.ttlMs:60000}") long ttlMs) {
+        this.scoreService = scoreService;
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .build();
+        this.histories = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .<HistoryKey, byte[]>weigher((key, json) -> json.length)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .recordStats()
+                .buildAsync();
+    }
+
+    /**
+     * @return the version the next {@link #getHistory} would serve, without
+     *         reading any scores
+     */
+    @Override
+    public String currentVersion(String username) {
+        return format(version(username));
+    }
+
+    @Override
+    public ScoreHistory getHistory(String username) {
+        long version = version(username);
+        HistoryKey key = new HistoryKey(username, version);
+        // the first caller reads on its own thread; a blocking load inside the
+        // cache's compute would pin a virtual thread to its carrier
+        CompletableFuture<byte[]> loading = new CompletableFuture<>();
+        CompletableFuture<byte[]> existing = histories.asMap().putIfAbsent(key, loading);
+        if (existing != null) {
+            return new ScoreHistory(format(version), existing.join());
+        }
+        try {
+            loading.complete(serialize(username));
+        } catch (RuntimeException e) {
+            // failed futures are dropped by the cache, so the next caller retries
+            loading.completeExceptionally(e);
+            throw e;
+        }
+        return new ScoreHistory(format(version), loading.join());
+    }
+
+    /**
+     * Moves the user to a new version and drops the cached history of the
+     * old one.
+     */
+    @Override
+    public void invalidate(String username) {
+        Long previous = versions.asMap().put(username, sequence.incrementAndGet());
+        if (previous != null) {
+            histories.synchronous().invalidate(new HistoryKey(username, previous));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onScoresCreated(ScoresCreated created) {
+        created.scores().stream().map(ScoreResponse::username).distinct().forEach(this::invalidate);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, histories.synchronous(), "scoreHistory");
+    }
+
+    private long version(String username) {
+        return versions.get(username, key -> sequence.incrementAndGet());
+    }
+
+    private String format(long version) {
+        return epoch + "-" + version;
+    }
+
+    private byte[] serialize(String username) {
+        scoreService.requireUser(username);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            scoreService.streamScores(username, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to serialize scores of " + username, e);
+        }
+        return out.toByteArray();
+    }
+}
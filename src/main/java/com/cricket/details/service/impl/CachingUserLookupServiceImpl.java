@@ -0,0 +1,66 @@
+package com.cricket.details.service.impl;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.cricket.details.model.User;
+import com.cricket.details.repository.UserRepository;
+import com.cricket.details.service.UserLookupService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Implementation of {@link UserLookupService} that keeps recently used users
+ * in a bounded cache in front of {@link UserRepository}.
+ * <p>
+ * Entries are evicted by size and after a fixed TTL. Unknown usernames are
+ * never cached, so a user is visible as soon as it is registered. Writers must
+ * call {@link #evict(String)} after changing a user.
+ * </p>
+ */
+@Service
+public class CachingUserLookupServiceImpl implements UserLookupService, MeterBinder {
+
+    private final UserRepository userRepository;
+    private final Cache<String, User> users;
+
+    public CachingUserLookupServiceImpl(UserRepository userRepository,
+            @Value("${app.user-cache.max-size:10000}") long maxSize,
+            @Value("${app.user-cache.ttl-ms:300000}") long ttlMs) {
+        this.userRepository = userRepository;
+        this.users = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Optional<User> findByUsername(String username) {
+        User cached = users.getIfPresent(username);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<User> user = userRepository.findByUsername(username);
+        user.ifPresent(u -> users.put(username, u));
+        return user;
+    }
+
+    @Override
+    public void evict(String username) {
+        users.invalidate(username);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, users, "users");
+    }
+
+}
@@ -7,20 +7,20 @@ import org.springframework.stereotype.Service;
 
 import com.cricket.details.exception.UserNotFoundException;
 import com.cricket.details.model.User;
-import com.cricket.details.repository.UserRepository;
+import com.cricket.details.service.UserLookupService;
 
 @Service
 public class CustomUserDetailsServiceImpl implements UserDetailsService {
 
-    private final UserRepository userRepository;
+    private final UserLookupService userLookupService;
 
-    public CustomUserDetailsServiceImpl(UserRepository userRepository) {
-        this.userRepository = userRepository;
+    public CustomUserDetailsServiceImpl(UserLookupService userLookupService) {
+        this.userLookupService = userLookupService;
     }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username)
+        User user = userLookupService.findByUsername(username)
                 .orElseThrow(() -> new UserNotFoundException("User not found"));
         return new CustomUserDetails(user);
     }
@@ -0,0 +1,159 @@
+package com.cricket.details.service.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.cricket.details.model.LeaderboardEntry;
+import com.cricket.details.model.LeaderboardRank;
+import com.cricket.details.model.ScoreResponse;
+import com.cricket.details.model.ScoresCreated;
+import com.cricket.details.repository.ScoreRepository;
+import com.cricket.details.service.LeaderboardService;
+import com.cricket.details.util.TopKBoard;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+/**
+ * Implementation of {@link LeaderboardService} that keeps the highest
+ * innings overall and per match in memory.
+ * <p>
+ * Each board is a {@link TopKBoard} holding only its best
+ * {@code app.leaderboard.size} innings. The overall board is filled from the
+ * score table once the application is ready. Match boards are cached for at
+ * most {@code app.leaderboard.maxMatches} matches and dropped after
+ * {@code app.leaderboard.idleEvictMs} without a read; a board that is not
+ * cached is refilled from the score table on its next read. Every committed
+ * score write feeds the overall board and the board of its match if cached.
+ * </p>
+ */
+@Service
+public class LeaderboardServiceImpl implements LeaderboardService {
+
+    private static final Logger log = LoggerFactory.getLogger(LeaderboardServiceImpl.class);
+
+    // most runs first; the score id keeps distinct innings with equal runs apart
+    static final Comparator<ScoreResponse> ORDER = Comparator.comparingInt(ScoreResponse::runs).reversed()
+            .thenComparing(ScoreResponse::id);
+
+    private final ScoreRepository scoreRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int size;
+    private final TopKBoard<ScoreResponse> overall;
+    private final LoadingCache<String, TopKBoard<ScoreResponse>> byMatch;
+
+    public LeaderboardServiceImpl(ScoreRepository scoreRepository, TransactionTemplate transactionTemplate,
+            @Value("${app.leaderboard.size: 100}") int size,
+            @Value("${app.leaderboard.maxMatches: 1000}") long maxMatches,
+            @Value("${app.leaderboard.idleEvictMs: 3600000}") long idleEvictMs) {
+        this.scoreRepository = scoreRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.size = size;
+        this.overall = new TopKBoard<>(size, ORDER);
+        this.byMatch = Caffeine.newBuilder()
+                .maximumSize(maxMatches)
+                .expireAfterAccess(Duration.ofMillis(idleEvictMs))
+                .build(this::load);
+    }
+
+    /**
+     * Loads the overall board from the score table. Scores committed while
+     * warming are also delivered by {@link #onScoresCreated}; offering an
+     * innings twice is harmless.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warm() {
+        long started = System.nanoTime();
+        TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnly.setReadOnly(true);
+        Long loaded = readOnly.execute(status -> {
+            long count = 0;
+            try (Stream<ScoreResponse> scores = scoreRepository.streamAll()) {
+                for (ScoreResponse score : (Iterable<ScoreResponse>) scores::iterator) {
+                    offer(score);
+                    count++;
+                }
+            }
+            return count;
+        });
+        log.info("Warmed the overall leaderboard from {} scores in {} ms", loaded,
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onScoresCreated(ScoresCreated created) {
+        record(created.scores());
+    }
+
+    @Override
+    public void record(List<ScoreResponse> scores) {
+        scores.forEach(this::offer);
+    }
+
+    /**
+     * @param match the match, or null for the overall board
+     * @param limit number of entries, capped at the board size
+     * @return the best innings, highest first
+     */
+    @Override
+    public List<LeaderboardEntry> getTop(String match, int limit) {
+        TopKBoard<ScoreResponse> board = board(match);
+        List<ScoreResponse> top = board.top(Math.max(0, Math.min(limit, size)));
+        List<LeaderboardEntry> entries = new ArrayList<>(top.size());
+        for (int i = 0; i < top.size(); i++) {
+            ScoreResponse score = top.get(i);
+            entries.add(new LeaderboardEntry(i + 1, score.username(), score.runs(), score.match(), score.id()));
+        }
+        return entries;
+    }
+
+    @Override
+    public LeaderboardRank getRank(String username, String match) {
+        TopKBoard<ScoreResponse> board = board(match);
+        // walk once and keep the first hit so rank and runs come from the same entry
+        ScoreResponse[] best = new ScoreResponse[1];
+        int rank = board.rankOf(score -> {
+            if (username.equals(score.username())) {
+                best[0] = score;
+                return true;
+            }
+            return false;
+        });
+        return rank == 0 ? new LeaderboardRank(username, match, null, null)
+                : new LeaderboardRank(username, match, rank, best[0].runs());
+    }
+
+    private void offer(ScoreResponse score) {
+        overall.offer(score);
+        if (score.match() != null) {
+            // waits for a refill in progress; a board that is not cached is refilled with this score on its next read
+            byMatch.asMap().computeIfPresent(score.match(), (match, board) -> {
+                board.offer(score);
+                return board;
+            });
+        }
+    }
+
+    private TopKBoard<ScoreResponse> board(String match) {
+        return match == null ? overall : byMatch.get(match);
+    }
+
+    private TopKBoard<ScoreResponse> load(String match) {
+        TopKBoard<ScoreResponse> board = new TopKBoard<>(size, ORDER);
+        scoreRepository.findTopByMatch(match, PageRequest.of(0, size)).forEach(board::offer);
+        return board;
+    }
+}
@@ -0,0 +1,121 @@
+package com.cricket.details.service.impl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.cricket.details.client.NotificationClient;
+import com.cricket.details.util.ThreadFactories;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Holds the login message, which is the same for every user, in front of
+ * {@link NotificationClient}.
+ * <p>
+ * Only one upstream call runs at a time: callers that need the message
+ * while it is being fetched share that fetch. Once a message is held it is
+ * always served at once, and a message older than
+ * {@code app.notification.loginMessage.refreshAfterMs} is refreshed in the
+ * background, so a login burst costs about one upstream call per refresh
+ * interval. A failed refresh, including one rejected by an open circuit,
+ * keeps the last good message and is tried again after
+ * {@code failureBackoffMs}. Only before the first successful fetch do callers
+ * get the configured default message.
+ * </p>
+ */
+@Component
+public class LoginMessageCache {
+
+    private static final Logger log = LoggerFactory.getLogger(LoginMessageCache.class);
+
+    private record Entry(String message, long refreshAtNanos) {
+    }
+
+    private final NotificationClient notificationClient;
+    private final long refreshAfterNanos;
+    private final long failureBackoffNanos;
+    private final String defaultMessage;
+    private final ExecutorService refresher;
+    private final AtomicReference<Entry> current = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<String>> inFlight = new AtomicReference<>();
+
+    public LoginMessageCache(NotificationClient notificationClient,
+            @Value("${app.notification.loginMessage.refreshAfterMs: 30000}") long refreshAfterMs,
+            @Value("${app.notification.loginMessage.failureBackoffMs: 5000}") long failureBackoffMs,
+            @Value("${app.notification.loginMessage.default: Welcome back}") String defaultMessage,
+            @Value("${spring.threads.virtual.enabled: false}") boolean virtualThreads) {
+        this.notificationClient = notificationClient;
+        this.refreshAfterNanos = refreshAfterMs * 1_000_000;
+        this.failureBackoffNanos = failureBackoffMs * 1_000_000;
+        this.defaultMessage = defaultMessage;
+        this.refresher = Executors.newSingleThreadExecutor(
+                ThreadFactories.named("login-message-refresh-", virtualThreads));
+    }
+
+    public String get() {
+        Entry entry = current.get();
+        if (entry != null) {
+            if (System.nanoTime() - entry.refreshAtNanos() >= 0) {
+                refresh();
+            }
+            return entry.message();
+        }
+        try {
+            return refresh().join();
+        } catch (CompletionException e) {
+            // a concurrent refresh may have succeeded in the meantime
+            Entry latest = current.get();
+            return latest != null ? latest.message() : defaultMessage;
+        }
+    }
+
+    /**
+     * Starts a fetch unless one is already running.
+     *
+     * @return the running fetch
+     */
+    private CompletableFuture<String> refresh() {
+        while (true) {
+            CompletableFuture<String> running = inFlight.get();
+            if (running != null) {
+                return running;
+            }
+            CompletableFuture<String> fetch = new CompletableFuture<>();
+            if (inFlight.compareAndSet(null, fetch)) {
+                refresher.execute(() -> fetch(fetch));
+                return fetch;
+            }
+        }
+    }
+
+    private void fetch(CompletableFuture<String> fetch) {
+        try {
+            String message = notificationClient.fetchLoginMessage();
+            current.set(new Entry(message, System.nanoTime() + refreshAfterNanos));
+            inFlight.set(null);
+            fetch.complete(message);
+        } catch (Throwable t) {
+            Entry previous = current.get();
+            if (previous != null) {
+                current.set(new Entry(previous.message(), System.nanoTime() + failureBackoffNanos));
+            }
+            log.warn("Login message refresh failed, serving the {} message: {}",
+                    previous != null ? "last good" : "default", t.getMessage());
+            inFlight.set(null);
+            fetch.completeExceptionally(t);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+}
@@ -0,0 +1,119 @@
+package com.cricket.details.service.impl;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.cricket.details.codec.ScoreEventCodec;
+import com.cricket.details.codec.ScoreEventCodecs;
+import com.cricket.details.model.OutboxEvent;
+import com.cricket.details.model.OutboxEventsCreated;
+import com.cricket.details.model.Score;
+import com.cricket.details.model.ScoreEvent;
+import com.cricket.details.model.ScoreRequest;
+import com.cricket.details.model.ScoreResponse;
+import com.cricket.details.model.ScoresCreated;
+import com.cricket.details.model.User;
+import com.cricket.details.repository.OutboxRepository;
+import com.cricket.details.repository.ScoreRepository;
+import com.cricket.details.service.UserScoreStatsService;
+
+import jakarta.validation.Validator;
+
+/**
+ * Validates score requests and writes the scores of one user together with
+ * their outbox events and statistics. Shared by the single, batch and import
+ * endpoints.
+ * <p>
+ * Both entities use pooled sequences, so the scores and the outbox rows are
+ * each flushed as JDBC batches. The caller owns the transaction; the outbox
+ * ids are announced once and picked up by the fast path after it commits.
+ * </p>
+ */
+@Component
+public class ScoreBatchWriter {
+
+    private final ScoreRepository scoreRepository;
+    private final OutboxRepository outboxRepository;
+    private final ScoreEventCodecs scoreEventCodecs;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+    private final UserScoreStatsService userScoreStatsService;
+
+    public ScoreBatchWriter(ScoreRepository scoreRepository, OutboxRepository outboxRepository,
+            ScoreEventCodecs scoreEventCodecs, ApplicationEventPublisher eventPublisher, Validator validator,
+            UserScoreStatsService userScoreStatsService) {
+        this.scoreRepository = scoreRepository;
+        this.outboxRepository = outboxRepository;
+        this.scoreEventCodecs = scoreEventCodecs;
+        this.eventPublisher = eventPublisher;
+        this.validator = validator;
+        this.userScoreStatsService = userScoreStatsService;
+    }
+
+    /**
+     * Checks one request against the {@link ScoreRequest} constraints.
+     *
+     * @return the violations as {@code field:message}, empty when valid
+     */
+    public List<String> validate(ScoreRequest scoreRequest) {
+        if (scoreRequest == null) {
+            return List.of("Score cannot be null");
+        }
+        return validator.validate(scoreRequest).stream()
+                .map(violation -> violation.getPropertyPath() + ":" + violation.getMessage())
+                .sorted()
+                .toList();
+    }
+
+    /**
+     * @param user     owner of the scores
+     * @param requests valid score requests, in the order they should be
+     *                 published
+     * @return the saved scores, in request order
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<Score> write(User user, List<ScoreRequest> requests) {
+        List<Score> scores = new ArrayList<>(requests.size());
+        for (ScoreRequest request : requests) {
+            scores.add(new Score(null, request.runs(), request.result(), request.match(), user));
+        }
+        List<Score> saved = scoreRepository.saveAll(scores);
+        userScoreStatsService.record(user, saved);
+
+        ScoreEventCodec codec = scoreEventCodecs.writer();
+        Instant now = Instant.now();
+        List<OutboxEvent> events = new ArrayList<>(saved.size());
+        for (Score score : saved) {
+            String eventId = UUID.randomUUID().toString();
+            ScoreEvent scoreEvent = new ScoreEvent(eventId, score.getId(), user.getUsername(), score.getMatch(),
+                    score.getRuns(), score.getResult());
+            OutboxEvent outboxEvent = new OutboxEvent();
+            outboxEvent.setEventId(eventId);
+            outboxEvent.setEventType("SCORE CREATED");
+            outboxEvent.setAggregateId(String.valueOf(score.getId()));
+            outboxEvent.setAggregateType("SCORE");
+            outboxEvent.setContentType(codec.contentType());
+            outboxEvent.setPayload(codec.encode(scoreEvent));
+            outboxEvent.setStatus("PENDING");
+            outboxEvent.setRetryCount(0);
+            outboxEvent.setCreatedAt(now);
+            outboxEvent.setNextAttemptAt(now);
+            events.add(outboxEvent);
+        }
+        List<OutboxEvent> savedEvents = outboxRepository.saveAll(events);
+        // picked up after commit so the events do not wait for the next poll
+        eventPublisher.publishEvent(new OutboxEventsCreated(savedEvents.stream().map(OutboxEvent::getId).toList()));
+        eventPublisher.publishEvent(new ScoresCreated(saved.stream()
+                .map(score -> new ScoreResponse(score.getId(), score.getMatch(), score.getRuns(), score.getResult(),
+                        user.getUsername()))
+                .toList()));
+        return saved;
+    }
+}
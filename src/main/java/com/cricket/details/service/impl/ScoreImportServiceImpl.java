@@ -0,0 +1,226 @@
+package com.cricket.details.service.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.cricket.details.exception.InvalidScoreBatchException;
+import com.cricket.details.exception.RateLimitExceededException;
+import com.cricket.details.exception.UserNotFoundException;
+import com.cricket.details.model.ScoreImportError;
+import com.cricket.details.model.ScoreImportFormat;
+import com.cricket.details.model.ScoreImportReport;
+import com.cricket.details.model.ScoreRequest;
+import com.cricket.details.model.User;
+import com.cricket.details.service.ScoreImportService;
+import com.cricket.details.service.UserLookupService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Implementation of {@link ScoreImportService} for backfilling scores from a
+ * streamed NDJSON or CSV body.
+ * <p>
+ * The body is read one row at a time and only the current chunk is held in
+ * memory; the next row is not read until the previous chunk has committed,
+ * so a slow database slows the upload instead of filling the heap. Each chunk
+ * commits in its own transaction together with its outbox rows. When an
+ * import stops early the report carries the last committed row, and sending
+ * the same body again with {@code resumeAfter} set to it skips what is
+ * already stored.
+ * </p>
+ */
+@Service
+public class ScoreImportServiceImpl implements ScoreImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ScoreImportServiceImpl.class);
+
+    private final UserLookupService userLookupService;
+    private final ScoreBatchWriter scoreBatchWriter;
+    private final ScoreWriteRateLimiter scoreWriteRateLimiter;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+    private final int maxErrors;
+
+    public ScoreImportServiceImpl(UserLookupService userLookupService, ScoreBatchWriter scoreBatchWriter,
+            ScoreWriteRateLimiter scoreWriteRateLimiter, TransactionTemplate transactionTemplate, ObjectMapper objectMapper,
+            @Value("${app.scores.import.chunkSize: 500}") int chunkSize,
+            @Value("${app.scores.import.maxErrors: 100}") int maxErrors) {
+        this.userLookupService = userLookupService;
+        this.scoreBatchWriter = scoreBatchWriter;
+        this.scoreWriteRateLimiter = scoreWriteRateLimiter;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        this.maxErrors = maxErrors;
+    }
+
+    /**
+     * Imports scores for the authenticated user. The whole import counts as
+     * one write request against the user's rate limit.
+     *
+     * @param body        the request body, read incrementally
+     * @param format      how rows are encoded
+     * @param resumeAfter number of leading data rows to skip, typically the
+     *                    {@code lastCommittedRow} of an earlier attempt
+     * @return counts, the capped per-row error report and the resume point
+     * @throws InvalidScoreBatchException if a CSV body has no usable header
+     * @throws UserNotFoundException      if the authenticated user is not found
+     * @throws RateLimitExceededException if the user is writing too fast
+     */
+    @Override
+    public ScoreImportReport importScores(String username, InputStream body, ScoreImportFormat format,
+            long resumeAfter) {
+        User user = userLookupService.findByUsername(username)
+                .orElseThrow(() -> new UserNotFoundException("Authenticated user not found: " + username));
+        scoreWriteRateLimiter.acquire(user);
+        Progress progress = new Progress(Math.max(0, resumeAfter));
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            RowParser parser = format == ScoreImportFormat.CSV ? csvParser(reader.readLine()) : this::parseJson;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                long row = ++progress.rowsRead;
+                if (row <= progress.resumeAfter) {
+                    continue;
+                }
+                accept(progress, row, line, parser);
+                if (progress.chunk.size() >= chunkSize) {
+                    commit(user, progress, row);
+                }
+            }
+            commit(user, progress, progress.rowsRead);
+        } catch (IOException e) {
+            progress.failure = "Failed to read import body: " + e.getMessage();
+        } catch (InvalidScoreBatchException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            log.warn("Score import for user={} stopped after row={}", username, progress.lastCommittedRow, e);
+            progress.failure = e.getMessage();
+        }
+        log.info("Score import for user={}: rows={}, imported={}, rejected={}, completed={}", username,
+                progress.rowsRead, progress.imported, progress.rejected, progress.failure == null);
+        return new ScoreImportReport(progress.failure == null, progress.rowsRead, progress.imported,
+                progress.rejected, progress.lastCommittedRow, progress.errors, progress.errorsTruncated,
+                progress.failure);
+    }
+
+    private void accept(Progress progress, long row, String line, RowParser parser) {
+        List<String> errors;
+        ScoreRequest request = null;
+        try {
+            request = parser.parse(line);
+            errors = scoreBatchWriter.validate(request);
+        } catch (IllegalArgumentException | JsonProcessingException e) {
+            errors = List.of("Unreadable row: " + e.getMessage());
+        }
+        if (errors.isEmpty()) {
+            progress.chunk.add(request);
+            return;
+        }
+        progress.rejected++;
+        if (progress.errors.size() < maxErrors) {
+            progress.errors.add(new ScoreImportError(row, String.join(",", errors)));
+        } else {
+            progress.errorsTruncated = true;
+        }
+    }
+
+    private void commit(User user, Progress progress, long throughRow) {
+        if (!progress.chunk.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> scoreBatchWriter.write(user, progress.chunk));
+            progress.imported += progress.chunk.size();
+            progress.chunk.clear();
+        }
+        progress.lastCommittedRow = Math.max(progress.lastCommittedRow, throughRow);
+    }
+
+    private ScoreRequest parseJson(String line) throws JsonProcessingException {
+        return objectMapper.readValue(line, ScoreRequest.class);
+    }
+
+    private static RowParser csvParser(String header) {
+        if (header == null) {
+            throw new InvalidScoreBatchException("CSV import needs a header row with runs,result,match");
+        }
+        List<String> columns = splitCsv(header).stream().map(c -> c.trim().toLowerCase()).toList();
+        Map<String, Integer> index = Map.of("runs", columns.indexOf("runs"), "result", columns.indexOf("result"),
+                "match", columns.indexOf("match"));
+        if (index.containsValue(-1)) {
+            throw new InvalidScoreBatchException("CSV header must name the runs, result and match columns");
+        }
+        return line -> {
+            List<String> fields = splitCsv(line);
+            if (fields.size() < columns.size()) {
+                throw new IllegalArgumentException("expected " + columns.size() + " columns");
+            }
+            return new ScoreRequest(Integer.parseInt(fields.get(index.get("runs")).trim()),
+                    fields.get(index.get("result")).trim(), fields.get(index.get("match")).trim());
+        };
+    }
+
+    // RFC 4180 fields on a single line: quoted fields may hold commas and "" escapes
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    @FunctionalInterface
+    private interface RowParser {
+        ScoreRequest parse(String line) throws JsonProcessingException;
+    }
+
+    private static final class Progress {
+        private final long resumeAfter;
+        private final List<ScoreRequest> chunk = new ArrayList<>();
+        private final List<ScoreImportError> errors = new ArrayList<>();
+        private long rowsRead;
+        private long imported;
+        private long rejected;
+        private long lastCommittedRow;
+        private boolean errorsTruncated;
+        private String failure;
+
+        private Progress(long resumeAfter) {
+            this.resumeAfter = resumeAfter;
+            this.lastCommittedRow = resumeAfter;
+        }
+    }
+}
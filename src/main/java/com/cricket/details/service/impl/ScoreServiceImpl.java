@@ -1,33 +1,38 @@
 package com.cricket.details.service.impl;
 
-import java.time.Instant;
-import java.util.HashMap;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.UUID;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.validation.annotation.Validated;
 
+import com.cricket.details.exception.InvalidScoreBatchException;
+import com.cricket.details.exception.RateLimitExceededException;
 import com.cricket.details.exception.UserNotFoundException;
-import com.cricket.details.mapper.ScoreMapper;
-import com.cricket.details.model.OutboxEvent;
 import com.cricket.details.model.Score;
+import com.cricket.details.model.ScoreBatchItemResult;
+import com.cricket.details.model.ScoreBatchResponse;
+import com.cricket.details.model.ScorePage;
 import com.cricket.details.model.ScoreRequest;
 import com.cricket.details.model.ScoreResponse;
 import com.cricket.details.model.User;
-import com.cricket.details.repository.OutboxRepository;
 import com.cricket.details.repository.ScoreRepository;
-import com.cricket.details.repository.UserRepository;
+import com.cricket.details.repository.ScoreViewRepository;
 import com.cricket.details.service.ScoreService;
+import com.cricket.details.service.UserLookupService;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
-
-import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
-import jakarta.validation.Valid;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 
 /**
  * Implementation of {@Link ScoreService }to handle business logic
@@ -35,7 +40,7 @@ import jakarta.validation.Valid;
  * <p>
  * This service manages adding new scores and retrieving scores for
  * the currently authenticated user, interacting with the
- * {@link UserRepository} and {@link ScoreRepository}.
+ * {@link UserLookupService} and {@link ScoreRepository}.
  * </p>
  */
 @Service
@@ -44,24 +49,52 @@ public class ScoreServiceImpl implements ScoreService {
 
     private static final Logger log = LoggerFactory.getLogger(ScoreServiceImpl.class);
 
-    private final UserRepository userRepository;
+    private static final int STREAM_FLUSH_ROWS = 500;
+
+    private final UserLookupService userLookupService;
     private final ScoreRepository scoreRepository;
-    private final OutboxRepository outboxRepository;
+    private final ScoreViewRepository scoreViewRepository;
+    private final ScoreBatchWriter scoreBatchWriter;
+    private final ScoreWriteRateLimiter scoreWriteRateLimiter;
+    private final TransactionTemplate transactionTemplate;
     private final ObjectMapper objectMapper;
+    private final int maxBatchSize;
+    private final int maxPageSize;
+    private final boolean readFromView;
 
     /**
      * Constructs a new ScoreServiceImpl with the required repositories.
      *
-     * @param userRepository  repository to manage User entities
-     * @param scoreRepository repository to manage Score entities
+     * @param userLookupService cached lookup of User entities
+     * @param scoreRepository     repository to manage Score entities
+     * @param scoreViewRepository read store built from the score events
+     * @param scoreBatchWriter    writes scores together with their outbox events
+     * @param scoreWriteRateLimiter per-user limit on score write requests
+     * @param transactionTemplate runs the writes once the rate limit has passed
+     * @param objectMapper        writes streamed scores
+     * @param maxBatchSize        largest batch accepted by {@link #addScores}
+     * @param maxPageSize         largest page returned by {@link #getScores}
+     * @param readSource          {@code primary} or {@code view}; where reads are
+     *                            served from
      */
 
-    public ScoreServiceImpl(UserRepository userRepository, ScoreRepository scoreRepository,
-            OutboxRepository outboxRepository, ObjectMapper objectMapper) {
-        this.userRepository = userRepository;
+    public ScoreServiceImpl(UserLookupService userLookupService, ScoreRepository scoreRepository,
+            ScoreViewRepository scoreViewRepository, ScoreBatchWriter scoreBatchWriter,
+            ScoreWriteRateLimiter scoreWriteRateLimiter, TransactionTemplate transactionTemplate,
+            ObjectMapper objectMapper,
+            @Value("${app.scores.batch.maxSize: 500}") int maxBatchSize,
+            @Value("${app.scores.page.maxLimit: 200}") int maxPageSize,
+            @Value("${app.scores.readSource: primary}") String readSource) {
+        this.userLookupService = userLookupService;
         this.scoreRepository = scoreRepository;
-        this.outboxRepository = outboxRepository;
+        this.scoreViewRepository = scoreViewRepository;
+        this.scoreBatchWriter = scoreBatchWriter;
+        this.scoreWriteRateLimiter = scoreWriteRateLimiter;
+        this.transactionTemplate = transactionTemplate;
         this.objectMapper = objectMapper;
+        this.maxBatchSize = maxBatchSize;
+        this.maxPageSize = maxPageSize;
+        this.readFromView = "view".equalsIgnoreCase(readSource);
     }
 
     /**
@@ -69,73 +102,158 @@ public class ScoreServiceImpl implements ScoreService {
      * <p>
      * This method retrieves the username from the security context, verifies
      * that the user exists, then creates and persists a new Score entity.
+     * The rate limit is checked before the transaction opens, so rejected
+     * writes never take a connection.
      * </p>
      *
      * @param scoreRequest the score details to add; must be valid
-     * @throws UserNotFoundException if the authenticated user is not found
+     * @throws UserNotFoundException      if the authenticated user is not found
+     * @throws RateLimitExceededException if the user is writing too fast
      */
 
-    @Transactional
     @Override
-    @RateLimiter(name = "myServiceLimiter")
     public void addScore(String username, ScoreRequest scoreRequest) {
-        // String username =
-        // SecurityContextHolder.getContext().getAuthentication().getName();
+        User user = findUser(username);
+        scoreWriteRateLimiter.acquire(user);
+        transactionTemplate.executeWithoutResult(status -> scoreBatchWriter.write(user, List.of(scoreRequest)));
+    }
+
+    /**
+     * Adds a batch of scores for the authenticated user in one transaction.
+     * <p>
+     * Every item is validated on its own; invalid items are reported back and
+     * the valid ones are still written. The user is resolved once for the
+     * whole batch, and the rate limit is checked before the transaction
+     * opens.
+     * </p>
+     *
+     * @param scoreRequests the scores to add, at most {@code app.scores.batch.maxSize}
+     * @return per-item results in request order
+     * @throws InvalidScoreBatchException if the batch is empty or too large
+     * @throws UserNotFoundException      if the authenticated user is not found
+     * @throws RateLimitExceededException if the user is writing too fast; a
+     *                                    batch counts as one request
+     */
+    @Override
+    public ScoreBatchResponse addScores(String username, List<ScoreRequest> scoreRequests) {
+        if (scoreRequests == null || scoreRequests.isEmpty()) {
+            throw new InvalidScoreBatchException("Score batch must not be empty");
+        }
+        if (scoreRequests.size() > maxBatchSize) {
+            throw new InvalidScoreBatchException("Score batch exceeds " + maxBatchSize + " items");
+        }
+        User user = findUser(username);
+        scoreWriteRateLimiter.acquire(user);
+
+        ScoreBatchItemResult[] results = new ScoreBatchItemResult[scoreRequests.size()];
+        List<Integer> validIndexes = new ArrayList<>();
+        List<ScoreRequest> valid = new ArrayList<>();
+        for (int i = 0; i < scoreRequests.size(); i++) {
+            List<String> errors = scoreBatchWriter.validate(scoreRequests.get(i));
+            if (errors.isEmpty()) {
+                validIndexes.add(i);
+                valid.add(scoreRequests.get(i));
+            } else {
+                results[i] = ScoreBatchItemResult.rejected(i, errors);
+            }
+        }
+        if (!valid.isEmpty()) {
+            List<Score> saved = transactionTemplate.execute(status -> scoreBatchWriter.write(user, valid));
+            for (int i = 0; i < saved.size(); i++) {
+                int index = validIndexes.get(i);
+                results[index] = ScoreBatchItemResult.created(index, saved.get(i).getId());
+            }
+        }
+        log.debug("Score batch for user={}: created={}, rejected={}", username, valid.size(),
+                scoreRequests.size() - valid.size());
+        return new ScoreBatchResponse(valid.size(), scoreRequests.size() - valid.size(), List.of(results));
+    }
 
-        User user = userRepository.findByUsername(username)
+    private User findUser(String username) {
+        return userLookupService.findByUsername(username)
                 .orElseThrow(() -> new UserNotFoundException("Authenticated user not found: " +
                         username));
-        Score score = new Score(null, scoreRequest.runs(), scoreRequest.result(), scoreRequest.match(), user);
-        Score savedScore = scoreRepository.save(score);
-
-        // save to outbox event also now
-
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("eventId", UUID.randomUUID().toString());
-        payload.put("score", savedScore.getRuns());
-        payload.put("match", savedScore.getMatch());
-        payload.put("result", savedScore.getResult());
-        payload.put("user", savedScore.getUser().getUsername());
-
-        try {
-            String payloadString = objectMapper.writeValueAsString(payload);
-            OutboxEvent outboxEvent = new OutboxEvent();
-            outboxEvent.setEventId(UUID.randomUUID().toString());
-            outboxEvent.setEventType("SCORE CREATED");
-            outboxEvent.setAggregateId(String.valueOf(savedScore.getId()));
-            outboxEvent.setAggregateType("SCORE");
-            outboxEvent.setPayload(payloadString);
-            outboxEvent.setStatus("PENDING");
-            outboxEvent.setRetryCount(0);
-            outboxEvent.setCreatedAt(Instant.now());
-            outboxRepository.save(outboxEvent);
-        } catch (Exception e) {
-            log.error("Failed to serialize outbox payload , rolling back", e);
-            throw new RuntimeException("Failed to create outbox payload", e);
-        }
     }
 
     /**
-     * Retrieves a list of scores for the currently authenticated user.
+     * Retrieves one page of scores for the currently authenticated user,
+     * newest first.
      * <p>
-     * This method fetches the username from the security context, verifies
-     * user existence, and returns the scores mapped to {@link ScoreResponse} DTOs.
+     * Pages are addressed by keyset: the cursor is the id of the last score of
+     * the previous page, so every page is an index seek on the user's scores
+     * however deep the client has paged. With {@code app.scores.readSource:
+     * view} the page comes from the read store, which trails the score table
+     * by the Kafka consumer lag.
      * </p>
      *
-     * @param scoreRequest filters or parameters related to the request (not
-     *                     currently used)
-     * @return a list of ScoreResponse DTOs representing the user's scores
+     * @param cursor id returned as {@code nextCursor} by the previous page, or
+     *               null for the first page
+     * @param limit  page size, capped at {@code app.scores.page.maxLimit}
+     * @return the page and the cursor of the next one
      * @throws UserNotFoundException if the authenticated user is not found
      */
 
     @Override
-    public List<ScoreResponse> getScores(String username) {
-        userRepository.findByUsername(username)
-                .orElseThrow(() -> new UserNotFoundException("Authenticated user not found:  " + username));
-        return scoreRepository.findByUser_Username(username).stream()
-                .map(ScoreMapper::toDto)
-                .toList();
+    @Transactional(readOnly = true)
+    public ScorePage getScores(String username, Long cursor, int limit) {
+        findUser(username);
+        int pageSize = Math.max(1, Math.min(limit, maxPageSize));
+        // one extra row tells whether another page exists without a count query
+        PageRequest limitRows = PageRequest.of(0, pageSize + 1);
+        List<ScoreResponse> items = readFromView
+                ? scoreViewRepository.findPageByUsername(username, cursor, limitRows)
+                : scoreRepository.findPageByUsername(username, cursor, limitRows);
+        if (items.size() <= pageSize) {
+            return new ScorePage(items, null);
+        }
+        List<ScoreResponse> page = items.subList(0, pageSize);
+        return new ScorePage(page, page.get(pageSize - 1).id());
+    }
 
+    /**
+     * Checks that the user exists, so a caller can fail before it commits to
+     * a streamed response.
+     *
+     * @throws UserNotFoundException if the authenticated user is not found
+     */
+    @Override
+    public void requireUser(String username) {
+        findUser(username);
+    }
+
+    /**
+     * Writes every score of the user as one JSON array, newest first, while
+     * the rows are read off a database cursor. Rows are projected into
+     * {@link ScoreResponse} rather than loaded as entities, so nothing
+     * accumulates in the persistence context however long the history is.
+     * <p>
+     * By the time this runs the response status is usually committed, so the
+     * user is not checked here; call {@link #requireUser(String)} first.
+     * </p>
+     *
+     * @param out the response body
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamScores(String username, OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(ScoreResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (Stream<ScoreResponse> scores = readFromView
+                ? scoreViewRepository.streamByUsername(username)
+                : scoreRepository.streamByUsername(username);
+                JsonGenerator generator = objectMapper.getFactory().createGenerator(out)
+                        .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            generator.writeStartArray();
+            int written = 0;
+            for (ScoreResponse score : (Iterable<ScoreResponse>) scores::iterator) {
+                writer.writeValue(generator, score);
+                // push the first rows out early, then let the buffer fill
+                if (++written % STREAM_FLUSH_ROWS == 1) {
+                    generator.flush();
+                }
+            }
+            generator.writeEndArray();
+        }
     }
 
 }
@@ -0,0 +1,92 @@
+package com.cricket.details.service.impl;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.cricket.details.exception.RateLimitExceededException;
+import com.cricket.details.model.User;
+import com.cricket.details.util.TokenBucket;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Limits score write requests per user, so one noisy client only throttles
+ * itself.
+ * <p>
+ * Each user has a {@link TokenBucket} sized by the tier of their role:
+ * {@code ROLE_ADMIN} uses the admin tier and every other role the user tier.
+ * Buckets of users that have been idle for {@code idleEvictMs} are dropped,
+ * which keeps memory bounded by the number of recently active users; a user
+ * seen again starts with a full bucket, which an idle bucket would have
+ * refilled to anyway as long as the idle timeout is longer than a full
+ * refill.
+ * </p>
+ */
+@Component
+public class ScoreWriteRateLimiter implements MeterBinder {
+
+    private record Tier(double permitsPerSecond, int burst) {
+    }
+
+    private final Tier userTier;
+    private final Tier adminTier;
+    private final Cache<String, TokenBucket> buckets;
+    private volatile Counter rejected;
+
+    public ScoreWriteRateLimiter(
+            @Value("${app.ratelimit.scores.user.permitsPerSecond: 1}") double userPermitsPerSecond,
+            @Value("${app.ratelimit.scores.user.burst: 10}") int userBurst,
+            @Value("${app.ratelimit.scores.admin.permitsPerSecond: 20}") double adminPermitsPerSecond,
+            @Value("${app.ratelimit.scores.admin.burst: 100}") int adminBurst,
+            @Value("${app.ratelimit.scores.maxUsers: 100000}") long maxUsers,
+            @Value("${app.ratelimit.scores.idleEvictMs: 600000}") long idleEvictMs) {
+        this.userTier = new Tier(userPermitsPerSecond, userBurst);
+        this.adminTier = new Tier(adminPermitsPerSecond, adminBurst);
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterAccess(Duration.ofMillis(idleEvictMs))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Takes one permit from the user's bucket.
+     *
+     * @throws RateLimitExceededException if the bucket is empty
+     */
+    public void acquire(User user) {
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.getIfPresent(user.getUsername());
+        if (bucket == null) {
+            Tier tier = tierOf(user);
+            bucket = buckets.get(user.getUsername(), key -> new TokenBucket(tier.permitsPerSecond(), tier.burst(), now));
+        }
+        long waitNanos = bucket.tryAcquire(now);
+        if (waitNanos > 0) {
+            Counter counter = rejected;
+            if (counter != null) {
+                counter.increment();
+            }
+            throw new RateLimitExceededException("Too many score writes, retry later", Duration.ofNanos(waitNanos));
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, buckets, "scoreWriteRateLimits");
+        this.rejected = Counter.builder("scores.ratelimit.rejected")
+                .description("Score writes rejected by the per-user rate limit")
+                .register(registry);
+    }
+
+    private Tier tierOf(User user) {
+        return "ROLE_ADMIN".equals(user.getRole()) ? adminTier : userTier;
+    }
+}
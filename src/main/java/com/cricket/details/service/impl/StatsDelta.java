@@ -0,0 +1,60 @@
+package com.cricket.details.service.impl;
+
+import com.cricket.details.model.ScoreResult;
+import com.cricket.details.model.ScoreTotals;
+import com.cricket.details.model.UserScoreStats;
+import com.cricket.details.model.UserScoreStatsResponse;
+
+/**
+ * Change to a user's statistics, accumulated from scores or from
+ * {@link ScoreTotals} and then applied in one step.
+ */
+final class StatsDelta {
+
+    long innings;
+    long runs;
+    int best;
+    long wins;
+    long losses;
+    long draws;
+    long other;
+
+    StatsDelta add(int scoreRuns, String result) {
+        return add(1, scoreRuns, scoreRuns, result);
+    }
+
+    StatsDelta add(ScoreTotals totals) {
+        return add(totals.innings(), totals.totalRuns(), totals.bestRuns(), totals.result());
+    }
+
+    private StatsDelta add(long count, long totalRuns, int bestRuns, String result) {
+        innings += count;
+        runs += totalRuns;
+        best = Math.max(best, bestRuns);
+        switch (ScoreResult.of(result)) {
+            case WIN -> wins += count;
+            case LOSS -> losses += count;
+            case DRAW -> draws += count;
+            case OTHER -> other += count;
+        }
+        return this;
+    }
+
+    /**
+     * Overwrites the statistics with this delta, for a full recompute.
+     */
+    void replace(UserScoreStats stats) {
+        stats.setInnings(innings);
+        stats.setTotalRuns(runs);
+        stats.setBestRuns(best);
+        stats.setWins(wins);
+        stats.setLosses(losses);
+        stats.setDraws(draws);
+        stats.setOtherResults(other);
+    }
+
+    UserScoreStatsResponse toResponse(String username) {
+        double average = innings == 0 ? 0 : (double) runs / innings;
+        return new UserScoreStatsResponse(username, innings, runs, best, average, wins, losses, draws, other);
+    }
+}
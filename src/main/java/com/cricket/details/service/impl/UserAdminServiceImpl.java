@@ -0,0 +1,59 @@
+package com.cricket.details.service.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.validation.annotation.Validated;
+
+import com.cricket.details.exception.UserNotFoundException;
+import com.cricket.details.model.UserAccountUpdate;
+import com.cricket.details.repository.UserRepository;
+import com.cricket.details.service.UserAdminService;
+import com.cricket.details.service.UserLookupService;
+import com.cricket.details.util.PrincipalRecheckRegistry;
+
+/**
+ * Implementation of {@link UserAdminService} for changing the state of an
+ * account.
+ * <p>
+ * Tokens carry the role and enabled flag, so after the change is committed
+ * the user is evicted from the lookup cache and marked in the
+ * {@link PrincipalRecheckRegistry}; tokens issued before the change are then
+ * checked against the database instead of being trusted as issued.
+ * </p>
+ */
+@Service
+@Validated
+public class UserAdminServiceImpl implements UserAdminService {
+
+    private static final Logger log = LoggerFactory.getLogger(UserAdminServiceImpl.class);
+
+    private final UserRepository userRepository;
+    private final UserLookupService userLookupService;
+    private final PrincipalRecheckRegistry principalRecheckRegistry;
+
+    public UserAdminServiceImpl(UserRepository userRepository, UserLookupService userLookupService,
+            PrincipalRecheckRegistry principalRecheckRegistry) {
+        this.userRepository = userRepository;
+        this.userLookupService = userLookupService;
+        this.principalRecheckRegistry = principalRecheckRegistry;
+    }
+
+    /**
+     * Sets the enabled flag and role of an account.
+     *
+     * @param username the account to change
+     * @param update   the new enabled flag and role
+     * @throws UserNotFoundException if no such user exists
+     */
+    @Override
+    public void updateAccount(String username, UserAccountUpdate update) {
+        // the update commits on return, so a re-check can only ever see the new state
+        if (userRepository.updateAccountState(username, update.enabled(), update.role()) == 0) {
+            throw new UserNotFoundException("User not found: " + username);
+        }
+        userLookupService.evict(username);
+        principalRecheckRegistry.requireRecheck(username);
+        log.info("Updated account of user {}: enabled={}, role={}", username, update.enabled(), update.role());
+    }
+}
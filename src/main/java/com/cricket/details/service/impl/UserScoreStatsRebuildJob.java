@@ -0,0 +1,143 @@
+package com.cricket.details.service.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.cricket.details.model.ScoreTotals;
+import com.cricket.details.model.User;
+import com.cricket.details.model.UserScoreStats;
+import com.cricket.details.repository.ScoreRepository;
+import com.cricket.details.repository.UserRepository;
+import com.cricket.details.repository.UserScoreStatsRepository;
+import com.cricket.details.util.ThreadFactories;
+
+/**
+ * Recomputes every user's {@link UserScoreStats} from the score table, for
+ * backfills and to repair drift.
+ * <p>
+ * Users are split into id ranges that are rebuilt in parallel, one
+ * transaction per range. Each range locks its users and their statistics
+ * before totalling scores, so a score committed during the rebuild is either
+ * in the totals or added on top of them afterwards, never lost or counted
+ * twice.
+ * </p>
+ */
+@Component
+public class UserScoreStatsRebuildJob {
+
+    private static final Logger log = LoggerFactory.getLogger(UserScoreStatsRebuildJob.class);
+
+    private final UserRepository userRepository;
+    private final ScoreRepository scoreRepository;
+    private final UserScoreStatsRepository userScoreStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int threads;
+    private final boolean onStartup;
+    private final boolean virtualThreads;
+
+    public UserScoreStatsRebuildJob(UserRepository userRepository, ScoreRepository scoreRepository,
+            UserScoreStatsRepository userScoreStatsRepository, TransactionTemplate transactionTemplate,
+            @Value("${app.stats.rebuild.chunkSize: 1000}") int chunkSize,
+            @Value("${app.stats.rebuild.threads: 4}") int threads,
+            @Value("${app.stats.rebuild.onStartup: false}") boolean onStartup,
+            @Value("${spring.threads.virtual.enabled: false}") boolean virtualThreads) {
+        this.userRepository = userRepository;
+        this.scoreRepository = scoreRepository;
+        this.userScoreStatsRepository = userScoreStatsRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.threads = Math.max(1, threads);
+        this.onStartup = onStartup;
+        this.virtualThreads = virtualThreads;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (onStartup) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(cron = "${app.stats.rebuild.cron:-}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * @return number of users whose statistics were rebuilt
+     */
+    public int rebuild() {
+        Long minId = userRepository.findMinId();
+        Long maxId = userRepository.findMaxId();
+        if (minId == null || maxId == null) {
+            return 0;
+        }
+        long started = System.nanoTime();
+        // stays a fixed pool with virtual threads: each range holds a connection and row locks
+        ExecutorService executor = Executors.newFixedThreadPool(threads,
+                ThreadFactories.named("stats-rebuild-", virtualThreads));
+        try {
+            List<Future<Integer>> chunks = new ArrayList<>();
+            for (long from = minId; from <= maxId; from += chunkSize) {
+                long fromId = from;
+                long toId = Math.min(from + chunkSize - 1, maxId);
+                chunks.add(executor.submit(() -> rebuildRange(fromId, toId)));
+            }
+            int users = 0;
+            for (Future<Integer> chunk : chunks) {
+                users += chunk.get();
+            }
+            log.info("Rebuilt score statistics for {} users in {} ranges in {} ms", users, chunks.size(),
+                    (System.nanoTime() - started) / 1_000_000);
+            return users;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Score statistics rebuild interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Score statistics rebuild failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int rebuildRange(long fromId, long toId) {
+        return transactionTemplate.execute(status -> {
+            List<User> users = userRepository.lockRange(fromId, toId);
+            if (users.isEmpty()) {
+                return 0;
+            }
+            Map<Long, UserScoreStats> existing = userScoreStatsRepository.lockRange(fromId, toId).stream()
+                    .collect(Collectors.toMap(UserScoreStats::getUserId, Function.identity()));
+            Map<Long, StatsDelta> totals = new HashMap<>();
+            for (ScoreTotals row : scoreRepository.totalsByUserAndResult(fromId, toId)) {
+                totals.computeIfAbsent(row.userId(), id -> new StatsDelta()).add(row);
+            }
+            for (User user : users) {
+                UserScoreStats stats = existing.get(user.getId());
+                if (stats == null) {
+                    stats = userScoreStatsRepository.save(new UserScoreStats(user.getId(), user.getUsername()));
+                }
+                totals.getOrDefault(user.getId(), new StatsDelta()).replace(stats);
+            }
+            return users.size();
+        });
+    }
+}
@@ -0,0 +1,105 @@
+package com.cricket.details.service.impl;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.cricket.details.exception.UserNotFoundException;
+import com.cricket.details.model.Score;
+import com.cricket.details.model.User;
+import com.cricket.details.model.UserScoreStats;
+import com.cricket.details.model.UserScoreStatsResponse;
+import com.cricket.details.repository.ScoreViewRepository;
+import com.cricket.details.repository.UserRepository;
+import com.cricket.details.repository.UserScoreStatsRepository;
+import com.cricket.details.service.UserLookupService;
+import com.cricket.details.service.UserScoreStatsService;
+
+/**
+ * Implementation of {@link UserScoreStatsService} that keeps one
+ * {@link UserScoreStats} row per user in step with the score table.
+ * <p>
+ * New scores are folded in by an in-place increment inside the transaction
+ * that writes them, so readers get totals, best and average from one row
+ * instead of scanning the user's history. The first write for a user locks
+ * the user row before creating the statistics, so concurrent first writes
+ * cannot insert twice.
+ * </p>
+ */
+@Service
+public class UserScoreStatsServiceImpl implements UserScoreStatsService {
+
+    private final UserScoreStatsRepository userScoreStatsRepository;
+    private final UserRepository userRepository;
+    private final UserLookupService userLookupService;
+    private final ScoreViewRepository scoreViewRepository;
+    private final boolean readFromView;
+
+    public UserScoreStatsServiceImpl(UserScoreStatsRepository userScoreStatsRepository, UserRepository userRepository,
+            UserLookupService userLookupService, ScoreViewRepository scoreViewRepository,
+            @Value("${app.scores.readSource: primary}") String readSource) {
+        this.userScoreStatsRepository = userScoreStatsRepository;
+        this.userRepository = userRepository;
+        this.userLookupService = userLookupService;
+        this.scoreViewRepository = scoreViewRepository;
+        this.readFromView = "view".equalsIgnoreCase(readSource);
+    }
+
+    /**
+     * Adds newly saved scores to the user's statistics.
+     *
+     * @param user   owner of the scores
+     * @param scores scores saved in the current transaction
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(User user, List<Score> scores) {
+        if (scores.isEmpty()) {
+            return;
+        }
+        StatsDelta delta = new StatsDelta();
+        scores.forEach(score -> delta.add(score.getRuns(), score.getResult()));
+        if (increment(user.getId(), delta) > 0) {
+            return;
+        }
+        userRepository.lockById(user.getId());
+        // another writer may have created the row while we waited for the lock
+        if (increment(user.getId(), delta) == 0) {
+            UserScoreStats stats = new UserScoreStats(user.getId(), user.getUsername());
+            delta.replace(stats);
+            userScoreStatsRepository.save(stats);
+        }
+    }
+
+    /**
+     * Returns the statistics of a user from a single row lookup, or with
+     * {@code app.scores.readSource: view} by totalling the user's rows in the
+     * read store, which leaves the statistics table to the write path.
+     *
+     * @throws UserNotFoundException if the user does not exist
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public UserScoreStatsResponse getStats(String username) {
+        if (readFromView) {
+            userLookupService.findByUsername(username)
+                    .orElseThrow(() -> new UserNotFoundException("Authenticated user not found: " + username));
+            StatsDelta totals = new StatsDelta();
+            scoreViewRepository.totalsByUsername(username).forEach(totals::add);
+            return totals.toResponse(username);
+        }
+        return userScoreStatsRepository.findByUsername(username)
+                .map(UserScoreStatsResponse::of)
+                .orElseGet(() -> userLookupService.findByUsername(username)
+                        .map(user -> UserScoreStatsResponse.empty(username))
+                        .orElseThrow(() -> new UserNotFoundException("Authenticated user not found: " + username)));
+    }
+
+    private int increment(Long userId, StatsDelta delta) {
+        return userScoreStatsRepository.increment(userId, delta.innings, delta.runs, delta.best, delta.wins,
+                delta.losses, delta.draws, delta.other);
+    }
+}
@@ -0,0 +1,138 @@
+package com.cricket.details.util;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.cricket.details.exception.PasswordHashingBusyException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Runs a CPU-heavy {@link PasswordEncoder}, such as BCrypt, on its own
+ * bounded pool instead of on request threads.
+ * <p>
+ * The pool has one thread per core and a short queue, so at most that many
+ * hashes compete for CPU with the rest of the application however many
+ * logins arrive. A hash that cannot be queued, or that waits longer than
+ * {@code maxWaitMs}, fails at once with {@link PasswordHashingBusyException}
+ * rather than piling up request threads behind it. The threads are always
+ * platform threads: the work is pure CPU, so virtual threads would only
+ * remove the bound.
+ * </p>
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, MeterBinder {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long maxWaitMs;
+    private volatile Timer encodeTimer;
+    private volatile Timer matchesTimer;
+    private volatile Counter rejected;
+
+    /**
+     * @param delegate      encoder doing the hashing
+     * @param threads       hashing threads; 0 uses one per core
+     * @param queueCapacity hashes allowed to wait for a thread
+     * @param maxWaitMs     longest a caller waits for its result
+     */
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, long maxWaitMs) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.delegate = delegate;
+        this.maxWaitMs = maxWaitMs;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                ThreadFactories.named("password-hash-", false));
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> timed(encodeTimer, () -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> timed(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    /**
+     * Only parses the stored hash, so it runs on the caller.
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.encodeTimer = hashTimer(registry, "encode");
+        this.matchesTimer = hashTimer(registry, "matches");
+        this.rejected = Counter.builder("password.hash.rejected")
+                .description("Password hashes refused because the hashing pool was saturated")
+                .register(registry);
+        Gauge.builder("password.hash.queue", executor, e -> e.getQueue().size())
+                .description("Password hashes waiting for a hashing thread")
+                .register(registry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashes running")
+                .register(registry);
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T run(Callable<T> hash) {
+        Future<T> result;
+        try {
+            result = executor.submit(hash);
+        } catch (RejectedExecutionException e) {
+            throw busy();
+        }
+        try {
+            return result.get(maxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            throw busy();
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw busy();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private PasswordHashingBusyException busy() {
+        Counter counter = rejected;
+        if (counter != null) {
+            counter.increment();
+        }
+        return new PasswordHashingBusyException("Authentication is busy, retry shortly");
+    }
+
+    private static <T> T timed(Timer timer, Callable<T> hash) throws Exception {
+        return timer == null ? hash.call() : timer.recordCallable(hash);
+    }
+
+    private static Timer hashTimer(MeterRegistry registry, String operation) {
+        return Timer.builder("password.hash.duration")
+                .description("Time spent hashing on the hashing pool")
+                .tag("operation", operation)
+                .register(registry);
+    }
+}
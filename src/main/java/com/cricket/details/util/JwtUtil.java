@@ -1,6 +1,11 @@
 package com.cricket.details.util;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import javax.crypto.SecretKey;
@@ -9,27 +14,57 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import com.cricket.details.model.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 
 @Component
-public class JwtUtil {
+public class JwtUtil implements MeterBinder {
 
     // generate token
     // get username from token
     // validate the token
     // need this dependency 'io.jsonwebtoken:jjwt-api:0.11.5'
 
+    // claims embedded for the stateless principal mode
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_ENABLED = "enabled";
+
     private final SecretKey secretKey;
     private final long jwtExpirationInMs;
 
+    // parser is immutable and thread-safe, so build it once instead of per call
+    private final JwtParser jwtParser;
+
+    // verified claims keyed by token digest; each entry lives until the token
+    // itself expires, so the signature is checked once per token lifetime
+    private final Cache<String, Claims> verifiedClaims;
+
     public JwtUtil(
             @Value("${jwt.secret}") String secret,
-            @Value("${jwt.expiration}") Long jwtExpirationInMs) {
+            @Value("${jwt.expiration}") Long jwtExpirationInMs,
+            @Value("${jwt.claims-cache.max-size:10000}") long claimsCacheMaxSize) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
         this.jwtExpirationInMs = jwtExpirationInMs;
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
+        this.verifiedClaims = Caffeine.newBuilder()
+                .maximumSize(claimsCacheMaxSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
     }
 
     public String generateToken(String username) {
@@ -41,6 +76,25 @@ public class JwtUtil {
                 .compact();
     }
 
+    /**
+     * Generates a token carrying the user's id, role and enabled flag so the
+     * principal can be rebuilt from the token without a database lookup.
+     *
+     * @param user the authenticated user
+     * @return the signed compact JWT
+     */
+    public String generateToken(User user) {
+        return Jwts.builder()
+                .setSubject(user.getUsername())
+                .claim(CLAIM_USER_ID, user.getId())
+                .claim(CLAIM_ROLE, user.getRole())
+                .claim(CLAIM_ENABLED, user.isEnabled())
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + jwtExpirationInMs))
+                .signWith(secretKey, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
     public String extractUserName(String token) {
         return extractClaim(token, Claims::getSubject);
 
@@ -55,20 +109,85 @@ public class JwtUtil {
         return claimsResolver.apply(claims);
     }
 
+    /**
+     * Returns the verified claims of the token, parsing and checking the
+     * signature only when the token has not been seen before.
+     *
+     * @param token the compact JWT
+     * @return the verified claims
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, expired or
+     *                                      has an invalid signature
+     */
     public Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return verifiedClaims.get(digest(token), key -> jwtParser.parseClaimsJws(token).getBody());
     }
 
     public boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        return isExpired(extractAllClaims(token));
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUserName(token);
-        return ((username.equals(userDetails.getUsername())) && !isTokenExpired(token));
+        return isTokenValid(extractAllClaims(token), userDetails);
+    }
+
+    /**
+     * Validates already extracted claims against the loaded user, so callers
+     * holding the claims do not need to look the token up again.
+     */
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        final String username = claims.getSubject();
+        return ((username.equals(userDetails.getUsername())) && !isExpired(claims));
+    }
+
+    /**
+     * Tells whether the claims carry everything needed to build the principal
+     * without loading the user.
+     */
+    public boolean hasPrincipalClaims(Claims claims) {
+        return claims.get(CLAIM_ROLE) != null && claims.get(CLAIM_ENABLED) != null;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, verifiedClaims, "jwt.verifiedClaims");
+    }
+
+    private boolean isExpired(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return expiration != null && expiration.before(new Date());
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Expires cached claims together with the token they were read from.
+     */
+    private final class TokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            long remainingMs = expiration != null
+                    ? expiration.getTime() - System.currentTimeMillis()
+                    : jwtExpirationInMs;
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMs, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
@@ -0,0 +1,47 @@
+package com.cricket.details.util;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Tracks users whose token claims can no longer be trusted, e.g. after an
+ * account was disabled or its role changed.
+ * <p>
+ * Tokens issued before {@link #requireRecheck(String)} was called are
+ * resolved against the database again instead of being trusted as-is. Marks
+ * are dropped once every token issued before them has expired.
+ * </p>
+ */
+@Component
+public class PrincipalRecheckRegistry {
+
+    private final Cache<String, Instant> recheckSince;
+
+    public PrincipalRecheckRegistry(@Value("${jwt.expiration}") Long jwtExpirationInMs) {
+        this.recheckSince = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(jwtExpirationInMs))
+                .build();
+    }
+
+    /**
+     * Forces tokens of the given user issued up to now to be checked against
+     * the database.
+     *
+     * @param username the user whose account state changed
+     */
+    public void requireRecheck(String username) {
+        recheckSince.put(username, Instant.now());
+    }
+
+    public boolean isRecheckRequired(String username, Date issuedAt) {
+        Instant since = recheckSince.getIfPresent(username);
+        return since != null && (issuedAt == null || !issuedAt.toInstant().isAfter(since));
+    }
+}
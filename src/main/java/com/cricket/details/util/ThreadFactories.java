@@ -0,0 +1,25 @@
+package com.cricket.details.util;
+
+import java.util.concurrent.ThreadFactory;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Thread factories for the application's own executors, following
+ * {@code spring.threads.virtual.enabled} like the executors Spring Boot
+ * configures.
+ */
+public final class ThreadFactories {
+
+    private ThreadFactories() {
+
+    }
+
+    /**
+     * @param prefix  thread name prefix
+     * @param virtual whether to create virtual threads
+     */
+    public static ThreadFactory named(String prefix, boolean virtual) {
+        return virtual ? Thread.ofVirtual().name(prefix, 1).factory() : new CustomizableThreadFactory(prefix);
+    }
+}
@@ -0,0 +1,54 @@
+package com.cricket.details.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket holding up to {@code burst} permits that refill at a
+ * fixed rate.
+ * <p>
+ * The whole bucket is one {@code long}: the time at which it would be full
+ * again (the generic cell rate algorithm). Taking a permit pushes that time
+ * one refill interval later, and a permit is available while the time stays
+ * within {@code burst} intervals of now. Each attempt is a single
+ * compare-and-set, so concurrent callers never block one another.
+ * </p>
+ */
+public class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong fullAtNanos;
+
+    /**
+     * @param permitsPerSecond refill rate
+     * @param burst            permits available at once after an idle period
+     * @param nowNanos         current {@link System#nanoTime()}; the bucket
+     *                         starts full
+     */
+    public TokenBucket(double permitsPerSecond, int burst, long nowNanos) {
+        this.intervalNanos = Math.max(1, (long) (1_000_000_000L / permitsPerSecond));
+        this.burstNanos = intervalNanos * Math.max(1, burst);
+        this.fullAtNanos = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Takes one permit if one is available.
+     *
+     * @param nowNanos current {@link System#nanoTime()}
+     * @return 0 if a permit was taken, otherwise the nanoseconds until one
+     *         will be available
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long fullAt = fullAtNanos.get();
+            long next = Math.max(fullAt, nowNanos) + intervalNanos;
+            long waitNanos = next - burstNanos - nowNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (fullAtNanos.compareAndSet(fullAt, next)) {
+                return 0;
+            }
+        }
+    }
+}
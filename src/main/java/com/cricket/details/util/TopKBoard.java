@@ -0,0 +1,104 @@
+package com.cricket.details.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * Keeps the best {@code capacity} entries of a stream of offers, ordered by a
+ * comparator, for many concurrent writers and readers.
+ * <p>
+ * Entries live in a skip list, so reads walk the head of the list without
+ * locks and writers only contend on the nodes they touch. Offers that cannot
+ * make the board once it is full are rejected before touching the list, and
+ * every accepted offer beyond capacity evicts the current last entry, so
+ * memory stays at the capacity however many entries are offered. Entries
+ * must be immutable and the comparator must order distinct entries as
+ * unequal.
+ * </p>
+ *
+ * @param <T> entry type
+ */
+public class TopKBoard<T> {
+
+    private final ConcurrentSkipListSet<T> entries;
+    private final Comparator<? super T> order;
+    private final int capacity;
+    // tracked separately because ConcurrentSkipListSet.size() walks the list
+    private final AtomicInteger size = new AtomicInteger();
+
+    public TopKBoard(int capacity, Comparator<? super T> order) {
+        this.entries = new ConcurrentSkipListSet<>(order);
+        this.order = order;
+        this.capacity = Math.max(1, capacity);
+    }
+
+    /**
+     * @return whether the entry made the board; it may still be pushed out
+     *         later by better entries
+     */
+    public boolean offer(T entry) {
+        if (size.get() >= capacity) {
+            T last = lastOrNull();
+            if (last != null && order.compare(entry, last) >= 0) {
+                return false;
+            }
+        }
+        if (!entries.add(entry)) {
+            return false;
+        }
+        if (size.incrementAndGet() > capacity && entries.pollLast() != null) {
+            size.decrementAndGet();
+        }
+        return true;
+    }
+
+    /**
+     * @return up to {@code limit} entries, best first
+     */
+    public List<T> top(int limit) {
+        List<T> top = new ArrayList<>(Math.min(limit, capacity));
+        for (T entry : entries) {
+            if (top.size() >= limit) {
+                break;
+            }
+            top.add(entry);
+        }
+        return top;
+    }
+
+    /**
+     * @return 1-based position of the best entry matching {@code match}, or 0
+     *         if no matching entry is on the board
+     */
+    public int rankOf(Predicate<? super T> match) {
+        int rank = 0;
+        for (T entry : entries) {
+            rank++;
+            if (match.test(entry)) {
+                return rank;
+            }
+        }
+        return 0;
+    }
+
+    public int size() {
+        return Math.min(size.get(), capacity);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private T lastOrNull() {
+        try {
+            return entries.last();
+        } catch (NoSuchElementException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.cricket.details.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.cricket.details.model.ScoreEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class ScoreEventCodecTest {
+
+    private final JsonScoreEventCodec json = new JsonScoreEventCodec(new ObjectMapper());
+    private final BinaryScoreEventCodec binary = new BinaryScoreEventCodec();
+
+    private final ScoreEvent event = new ScoreEvent(UUID.randomUUID().toString(), 123_456L, "virat", "IND-vs-AUS",
+            82, "Win");
+
+    @Test
+    @DisplayName("decode() - should round-trip score events through both codecs")
+    void decode_ShouldRoundTrip() {
+        assertThat(json.decode(json.encode(event))).isEqualTo(event);
+        assertThat(binary.decode(binary.encode(event))).isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("encode() - binary payloads should be less than half the size of JSON")
+    void encode_BinaryShouldBeSmaller() {
+        assertThat(binary.encode(event).length).isLessThan(json.encode(event).length / 2);
+    }
+}
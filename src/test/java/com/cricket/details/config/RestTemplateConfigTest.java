@@ -0,0 +1,175 @@
+package com.cricket.details.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.hc.client5.http.impl.DefaultSchemePortResolver;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.routing.DefaultRoutePlanner;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.HttpHost;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Runs the configured client against a local stub of the notification
+ * service.
+ */
+class RestTemplateConfigTest {
+
+    private static final long RESPONSE_TIMEOUT_MS = 300;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    // concurrent /slow requests seen by the stub
+    private final AtomicInteger slowInFlight = new AtomicInteger();
+    private final AtomicInteger slowMaxInFlight = new AtomicInteger();
+    private HttpServer server;
+    private String baseUrl;
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient httpClient;
+    private RestTemplate restTemplate;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/getNotification", exchange -> respond(exchange, 200, "Welcome back"));
+        server.createContext("/failing", exchange -> respond(exchange, 503, "down"));
+        server.createContext("/slow", exchange -> {
+            slowMaxInFlight.accumulateAndGet(slowInFlight.incrementAndGet(), Math::max);
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            slowInFlight.decrementAndGet();
+            respond(exchange, 200, "late");
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+
+        RestTemplateConfig config = new RestTemplateConfig();
+        connectionManager = config.httpConnectionManager(10, 2, 500, RESPONSE_TIMEOUT_MS, 60_000,
+                baseUrl + "/getNotification", 4);
+        httpClient = config.httpClient(connectionManager, 200, RESPONSE_TIMEOUT_MS, 30_000);
+        restTemplate = config.getRestTemplate(new RestTemplateBuilder(), httpClient);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        release.countDown();
+        httpClient.close();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("getForEntity() - should reuse one pooled keep-alive connection for sequential calls")
+    void shouldReuseConnections() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(restTemplate.getForObject(baseUrl + "/getNotification", String.class))
+                    .isEqualTo("Welcome back");
+        }
+
+        assertThat(connectionManager.getTotalStats().getLeased()).isZero();
+        assertThat(connectionManager.getTotalStats().getAvailable()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("getForEntity() - should give up on a slow response after the response timeout")
+    void shouldBoundSlowResponses() {
+        long started = System.nanoTime();
+
+        assertThatThrownBy(() -> restTemplate.getForObject(baseUrl + "/slow", String.class))
+                .isInstanceOf(ResourceAccessException.class);
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        assertThat(elapsedMs).isGreaterThanOrEqualTo(RESPONSE_TIMEOUT_MS).isLessThan(2_000);
+        assertThat(connectionManager.getTotalStats().getLeased()).isZero();
+    }
+
+    @Test
+    @DisplayName("getForEntity() - should surface a failing response at once without retrying it")
+    void shouldFailFastOnServerErrors() {
+        long started = System.nanoTime();
+
+        assertThatThrownBy(() -> restTemplate.getForObject(baseUrl + "/failing", String.class))
+                .isInstanceOf(HttpServerErrorException.ServiceUnavailable.class);
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isLessThan(RESPONSE_TIMEOUT_MS);
+    }
+
+    @Test
+    @DisplayName("getForEntity() - should never lease more notification connections than the route limit")
+    void shouldLimitNotificationRoute() throws Exception {
+        // same pool settings, but patient enough that queued calls wait instead of timing out
+        RestTemplateConfig config = new RestTemplateConfig();
+        PoolingHttpClientConnectionManager patientManager = config.httpConnectionManager(10, 2, 500, 5_000, 60_000,
+                baseUrl + "/getNotification", 4);
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try (CloseableHttpClient patientClient = config.httpClient(patientManager, 5_000, 5_000, 30_000)) {
+            RestTemplate patient = config.getRestTemplate(new RestTemplateBuilder(), patientClient);
+            List<Future<String>> calls = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                calls.add(callers.submit(() -> patient.getForObject(baseUrl + "/slow", String.class)));
+            }
+
+            await().atMost(5, TimeUnit.SECONDS).until(() -> patientManager.getTotalStats().getLeased() == 4
+                    && patientManager.getTotalStats().getPending() == 4);
+            assertThat(slowInFlight.get()).isEqualTo(4);
+            release.countDown();
+            for (Future<String> call : calls) {
+                assertThat(call.get(5, TimeUnit.SECONDS)).isEqualTo("late");
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        // above the default route limit of 2, and never above the notification limit of 4
+        assertThat(slowMaxInFlight.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("routeOf() - should match the route the client plans for http and https URLs")
+    void routeOf_ShouldMatchPlannedRoute() throws Exception {
+        DefaultRoutePlanner planner = new DefaultRoutePlanner(DefaultSchemePortResolver.INSTANCE);
+
+        assertThat(RestTemplateConfig.routeOf("https://notify.example.org/getNotification"))
+                .isEqualTo(planner.determineRoute(new HttpHost("https", "notify.example.org", -1),
+                        HttpClientContext.create()));
+        assertThat(RestTemplateConfig.routeOf("http://notify.example.org:8082/getNotification"))
+                .isEqualTo(planner.determineRoute(new HttpHost("http", "notify.example.org", 8082),
+                        HttpClientContext.create()));
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.cricket.details.consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.KafkaHeaders;
+
+import com.cricket.details.codec.BinaryScoreEventCodec;
+import com.cricket.details.codec.JsonScoreEventCodec;
+import com.cricket.details.codec.ScoreEventCodecs;
+import com.cricket.details.model.ScoreEvent;
+import com.cricket.details.service.ScoreHistoryService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@ExtendWith(MockitoExtension.class)
+class ScoreEventListenerTest {
+
+    private final ScoreViewWriter scoreViewWriter;
+    private final ScoreEventListener listener;
+    private final JsonScoreEventCodec jsonCodec = new JsonScoreEventCodec(new ObjectMapper());
+    private final BinaryScoreEventCodec binaryCodec = new BinaryScoreEventCodec();
+
+    @Captor
+    private ArgumentCaptor<List<ScoreEvent>> applied;
+
+    ScoreEventListenerTest(@Mock ScoreViewWriter scoreViewWriter, @Mock ScoreHistoryService scoreHistoryService) {
+        this.scoreViewWriter = scoreViewWriter;
+        this.listener = new ScoreEventListener(new ScoreEventCodecs(List.of(jsonCodec, binaryCodec), "binary"),
+                scoreViewWriter, scoreHistoryService);
+    }
+
+    @Test
+    @DisplayName("onScoreEvents() - should decode by content type, default to JSON and skip unreadable records")
+    void onScoreEvents_ShouldDecodeBatch() {
+        ScoreEvent binary = new ScoreEvent("e1", 1L, "kohli", "M1", 40, "Win");
+        ScoreEvent json = new ScoreEvent("e2", 2L, "kohli", "M2", 12, "Loss");
+
+        ConsumerRecord<String, byte[]> binaryRecord = record(0, binaryCodec.encode(binary));
+        binaryRecord.headers().add(KafkaHeaders.CONTENT_TYPE,
+                BinaryScoreEventCodec.CONTENT_TYPE.getBytes(StandardCharsets.UTF_8));
+        ConsumerRecord<String, byte[]> legacyRecord = record(1, jsonCodec.encode(json));
+        ConsumerRecord<String, byte[]> brokenRecord = record(2, "not json".getBytes(StandardCharsets.UTF_8));
+
+        listener.onScoreEvents(List.of(binaryRecord, legacyRecord, brokenRecord));
+
+        verify(scoreViewWriter).apply(applied.capture());
+        assertThat(applied.getValue()).containsExactly(binary, json);
+    }
+
+    @Test
+    @DisplayName("onScoreEvents() - should skip legacy JSON events without a score id and apply the rest")
+    void onScoreEvents_ShouldSkipIncompleteEvents() {
+        ScoreEvent valid = new ScoreEvent("e1", 1L, "kohli", "M1", 40, "Win");
+        ConsumerRecord<String, byte[]> legacyRecord = record(0, """
+                {"eventId":"e0","score":8,"match":"M0","result":"Win","user":"kohli"}
+                """.getBytes(StandardCharsets.UTF_8));
+        ConsumerRecord<String, byte[]> validRecord = record(1, jsonCodec.encode(valid));
+
+        listener.onScoreEvents(List.of(legacyRecord, validRecord));
+
+        verify(scoreViewWriter).apply(applied.capture());
+        assertThat(applied.getValue()).containsExactly(valid);
+    }
+
+    private static ConsumerRecord<String, byte[]> record(long offset, byte[] value) {
+        return new ConsumerRecord<>("user-scores.v1", 0, offset, "key", value);
+    }
+}
@@ -0,0 +1,85 @@
+package com.cricket.details.consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.cricket.details.model.ScoreEvent;
+import com.cricket.details.model.ScoreResponse;
+import com.cricket.details.model.ScoreTotals;
+import com.cricket.details.repository.ScoreViewRepository;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ScoreViewWriterTest {
+
+    @Autowired
+    private ScoreViewRepository scoreViewRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private ScoreViewWriter scoreViewWriter;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        scoreViewWriter = new ScoreViewWriter(scoreViewRepository);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        scoreViewRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("apply() - should skip events already stored or repeated within the batch")
+    void apply_ShouldBeIdempotentOnEventId() {
+        assertThat(apply(List.of(event("e1", 1L, 40, "Win"), event("e2", 2L, 12, "Loss")))).isEqualTo(2);
+
+        // redelivery of e2 after a rebalance, plus a duplicate inside the batch
+        int applied = apply(List.of(event("e2", 2L, 12, "Loss"), event("e3", 3L, 101, "Win"),
+                event("e3", 3L, 101, "Win")));
+
+        assertThat(applied).isEqualTo(1);
+        assertThat(scoreViewRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("apply() - should serve pages newest first and per-result totals from the read store")
+    void apply_ShouldFeedReadQueries() {
+        apply(List.of(event("e1", 1L, 40, "Win"), event("e2", 2L, 12, "Loss"), event("e3", 3L, 101, "Win")));
+
+        List<ScoreResponse> page = scoreViewRepository.findPageByUsername("kohli", 3L, PageRequest.of(0, 10));
+        assertThat(page).extracting(ScoreResponse::id).containsExactly(2L, 1L);
+
+        List<ScoreTotals> totals = scoreViewRepository.totalsByUsername("kohli");
+        assertThat(totals).extracting(ScoreTotals::result, ScoreTotals::innings, ScoreTotals::totalRuns,
+                ScoreTotals::bestRuns)
+                .containsExactlyInAnyOrder(
+                        tuple("Win", 2L, 141L, 101),
+                        tuple("Loss", 1L, 12L, 12));
+    }
+
+    private int apply(List<ScoreEvent> events) {
+        return transactionTemplate.execute(status -> scoreViewWriter.apply(events));
+    }
+
+    private static ScoreEvent event(String eventId, Long scoreId, int runs, String result) {
+        return new ScoreEvent(eventId, scoreId, "kohli", "M" + scoreId, runs, result);
+    }
+}
@@ -1,9 +1,23 @@
 package com.cricket.details.controller;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -11,7 +25,15 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import com.cricket.details.exception.InvalidScoreBatchException;
+import com.cricket.details.exception.UserNotFoundException;
+import com.cricket.details.model.ScoreBatchItemResult;
+import com.cricket.details.model.ScoreBatchResponse;
+import com.cricket.details.model.ScoreHistory;
+import com.cricket.details.service.ScoreHistoryService;
+import com.cricket.details.service.ScoreImportService;
 import com.cricket.details.service.ScoreService;
+import com.cricket.details.service.UserScoreStatsService;
 
 @WebMvcTest(ScoreController.class)
 public class ScoreControllerTest {
@@ -22,6 +44,15 @@ public class ScoreControllerTest {
     @MockBean
     ScoreService scoreService;
 
+    @MockBean
+    ScoreImportService scoreImportService;
+
+    @MockBean
+    UserScoreStatsService userScoreStatsService;
+
+    @MockBean
+    ScoreHistoryService scoreHistoryService;
+
     @Test
     public void addScore_ValidationFailure() throws Exception {
         mockMvc.perform(post("/scores/addScore").contentType(MediaType.APPLICATION_JSON)
@@ -36,4 +67,71 @@ public class ScoreControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    public void addScores_ReturnsPerItemResults() throws Exception {
+        when(scoreService.addScores(eq("test"), anyList())).thenReturn(new ScoreBatchResponse(1, 1, List.of(
+                ScoreBatchItemResult.created(0, 10L),
+                ScoreBatchItemResult.rejected(1, List.of("runs:Runs must be >= 0")))));
+
+        mockMvc.perform(post("/scores/batch").contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        [
+                            { "runs" : 8, "result" : "Win", "match": "G2G" },
+                            { "runs" : -1, "result" : "Win", "match": "G2G" }
+                        ]
+                        """)
+                .with(user("test").roles("USER")).with(csrf()))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.items[1].status").value("REJECTED"));
+    }
+
+    @Test
+    public void addScores_ReturnsBadRequest_WhenBatchInvalid() throws Exception {
+        doThrow(new InvalidScoreBatchException("Score batch exceeds 500 items"))
+                .when(scoreService).addScores(eq("test"), anyList());
+
+        mockMvc.perform(post("/scores/batch").contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        [ { "runs" : 8, "result" : "Win", "match": "G2G" } ]
+                        """)
+                .with(user("test").roles("USER")).with(csrf()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Score batch exceeds 500 items"));
+    }
+
+    @Test
+    public void streamScores_ReturnsNotFound_BeforeStreaming_WhenUserMissing() throws Exception {
+        doThrow(new UserNotFoundException("Authenticated user not found: ghost"))
+                .when(scoreService).requireUser("ghost");
+
+        mockMvc.perform(post("/scores/getScores").with(user("ghost").roles("USER")).with(csrf()))
+                .andExpect(status().isNotFound());
+
+        verify(scoreService, never()).streamScores(eq("ghost"), any());
+    }
+
+    @Test
+    public void getScoreHistory_ReturnsBodyWithETag() throws Exception {
+        when(scoreHistoryService.currentVersion("test")).thenReturn("k1-7");
+        when(scoreHistoryService.getHistory("test")).thenReturn(new ScoreHistory("k1-7",
+                "[{\"id\":1,\"runs\":8}]".getBytes(StandardCharsets.UTF_8)));
+
+        mockMvc.perform(get("/scores/history").with(user("test").roles("USER")))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"k1-7\""))
+                .andExpect(jsonPath("$[0].runs").value(8));
+    }
+
+    @Test
+    public void getScoreHistory_NotModified_WhenETagMatches() throws Exception {
+        when(scoreHistoryService.currentVersion("test")).thenReturn("k1-7");
+
+        mockMvc.perform(get("/scores/history").header("If-None-Match", "\"k1-7\"")
+                .with(user("test").roles("USER")))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"k1-7\""));
+        verify(scoreHistoryService, never()).getHistory("test");
+    }
+
 }
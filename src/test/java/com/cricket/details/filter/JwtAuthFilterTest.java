@@ -0,0 +1,72 @@
+package com.cricket.details.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import com.cricket.details.model.User;
+import com.cricket.details.service.impl.CustomUserDetails;
+import com.cricket.details.util.JwtUtil;
+import com.cricket.details.util.PrincipalRecheckRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthFilterTest {
+
+    private static final String SECRET = "test-secret-key-that-is-long-enough-for-hs256-signing";
+
+    private final JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000L, 100);
+    private final PrincipalRecheckRegistry principalRecheckRegistry = new PrincipalRecheckRegistry(60_000L);
+    private final UserDetailsService userDetailsService;
+    private final JwtAuthFilter filter;
+
+    JwtAuthFilterTest(@Mock UserDetailsService userDetailsService) {
+        this.userDetailsService = userDetailsService;
+        this.filter = new JwtAuthFilter(jwtUtil, userDetailsService, principalRecheckRegistry, true, 300_000);
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("doFilter() - should trust fresh stateless claims without loading the user")
+    void doFilter_ShouldAuthenticateFromClaims_WhenNoRecheckRequired() throws Exception {
+        String token = jwtUtil.generateToken(new User(1L, "kohli", "hash", "ROLE_USER", true));
+
+        assertThat(authenticate(token)).isNotNull();
+        verify(userDetailsService, never()).loadUserByUsername("kohli");
+    }
+
+    @Test
+    @DisplayName("doFilter() - should reject a token issued before requireRecheck once the user is disabled")
+    void doFilter_ShouldReject_WhenUserDisabledAfterTokenIssued() throws Exception {
+        String token = jwtUtil.generateToken(new User(1L, "kohli", "hash", "ROLE_USER", true));
+        principalRecheckRegistry.requireRecheck("kohli");
+        when(userDetailsService.loadUserByUsername("kohli"))
+                .thenReturn(new CustomUserDetails(new User(1L, "kohli", "hash", "ROLE_USER", false)));
+
+        assertThat(authenticate(token)).isNull();
+    }
+
+    private Authentication authenticate(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/scores");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
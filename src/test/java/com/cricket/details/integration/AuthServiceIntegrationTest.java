@@ -1,11 +1,13 @@
 package com.cricket.details.integration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.cricket.details.model.AuthRequest;
@@ -13,10 +15,12 @@ import com.cricket.details.model.AuthResponse;
 import com.cricket.details.model.User;
 import com.cricket.details.repository.UserRepository;
 import com.cricket.details.service.impl.AuthServiceImpl;
+import com.cricket.details.service.impl.CachingUserLookupServiceImpl;
+import com.cricket.details.service.impl.LoginMessageCache;
 import com.cricket.details.util.JwtUtil;
 
 @DataJpaTest
-@Import({ AuthServiceImpl.class, JwtUtil.class, PasswordEncoder.class })
+@Import(JwtUtil.class)
 public class AuthServiceIntegrationTest {
 
     private final UserRepository userRepository;
@@ -26,13 +30,13 @@ public class AuthServiceIntegrationTest {
 
     @Autowired
     AuthServiceIntegrationTest(UserRepository userRepository,
-            PasswordEncoder passwordEncoder,
             JwtUtil jwtUtil) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordEncoder = new BCryptPasswordEncoder(4);
         this.jwtUtil = jwtUtil;
-        this.authService = new AuthServiceImpl(userRepository, passwordEncoder,
-                jwtUtil);
+        this.authService = new AuthServiceImpl(userRepository,
+                new CachingUserLookupServiceImpl(userRepository, 100, 60_000), passwordEncoder,
+                jwtUtil, mock(LoginMessageCache.class));
     }
 
     @Test
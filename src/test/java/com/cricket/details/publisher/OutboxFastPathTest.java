@@ -0,0 +1,93 @@
+package com.cricket.details.publisher;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.cricket.details.model.OutboxEvent;
+import com.cricket.details.model.OutboxEventsCreated;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxFastPathTest {
+
+    private final OutboxLeaseManager outboxLeaseManager;
+    private final OutboxPublisher outboxPublisher;
+
+    OutboxFastPathTest(@Mock OutboxLeaseManager outboxLeaseManager, @Mock OutboxPublisher outboxPublisher) {
+        this.outboxLeaseManager = outboxLeaseManager;
+        this.outboxPublisher = outboxPublisher;
+    }
+
+    @Test
+    @DisplayName("onOutboxEventsCreated() - should claim and publish the committed ids off the caller's thread")
+    void onOutboxEventsCreated_ShouldClaimAndPublish() {
+        OutboxFastPath fastPath = new OutboxFastPath(outboxLeaseManager, outboxPublisher, true, 1, 10, false);
+        List<OutboxEvent> claimed = List.of(event(1L), event(2L));
+        when(outboxLeaseManager.claim(List.of(1L, 2L))).thenReturn(claimed);
+        try {
+            fastPath.onOutboxEventsCreated(new OutboxEventsCreated(List.of(1L, 2L)));
+
+            verify(outboxPublisher, timeout(5_000)).publishBatch(claimed);
+        } finally {
+            fastPath.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("onOutboxEventsCreated() - should leave events for the poll when the fast path is disabled")
+    void onOutboxEventsCreated_ShouldDoNothing_WhenDisabled() {
+        OutboxFastPath fastPath = new OutboxFastPath(outboxLeaseManager, outboxPublisher, false, 1, 10, false);
+        try {
+            fastPath.onOutboxEventsCreated(new OutboxEventsCreated(List.of(1L)));
+        } finally {
+            fastPath.shutdown();
+        }
+
+        verifyNoInteractions(outboxLeaseManager, outboxPublisher);
+    }
+
+    @Test
+    @DisplayName("onOutboxEventsCreated() - should leave events for the poll when the hand-off queue is full")
+    void onOutboxEventsCreated_ShouldSkip_WhenQueueFull() throws Exception {
+        OutboxFastPath fastPath = new OutboxFastPath(outboxLeaseManager, outboxPublisher, true, 1, 1, false);
+        CountDownLatch release = new CountDownLatch(1);
+        when(outboxLeaseManager.claim(List.of(1L))).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(event(1L));
+        });
+        when(outboxLeaseManager.claim(List.of(2L))).thenReturn(List.of(event(2L)));
+        try {
+            // one hand-off runs, one waits in the queue, the third finds the queue full
+            fastPath.onOutboxEventsCreated(new OutboxEventsCreated(List.of(1L)));
+            fastPath.onOutboxEventsCreated(new OutboxEventsCreated(List.of(2L)));
+            fastPath.onOutboxEventsCreated(new OutboxEventsCreated(List.of(3L)));
+            release.countDown();
+
+            verify(outboxLeaseManager, timeout(5_000)).claim(List.of(2L));
+            verify(outboxPublisher, timeout(5_000).times(2)).publishBatch(anyList());
+            verify(outboxLeaseManager, never()).claim(List.of(3L));
+        } finally {
+            fastPath.shutdown();
+        }
+    }
+
+    private static OutboxEvent event(Long id) {
+        OutboxEvent event = new OutboxEvent();
+        event.setId(id);
+        event.setAggregateId("agg-" + id);
+        return event;
+    }
+}
@@ -0,0 +1,125 @@
+package com.cricket.details.publisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.cricket.details.model.OutboxEvent;
+import com.cricket.details.repository.OutboxRepository;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxLeaseManagerTest {
+
+    private static final int EVENTS = 120;
+    private static final int BATCH_SIZE = 10;
+    private static final long SEND_MILLIS = 20;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void cleanUp() {
+        outboxRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("claim() - should lease every pending event to exactly one worker")
+    void claim_ShouldHandOutDisjointSlices() throws Exception {
+        seed();
+        Set<Long> seen = ConcurrentHashMap.newKeySet();
+        List<Long> duplicates = new ArrayList<>();
+
+        drain(4, seen, duplicates);
+
+        assertThat(duplicates).isEmpty();
+        assertThat(seen).hasSize(EVENTS);
+        assertThat(outboxRepository.findAll()).allMatch(e -> "SENT".equals(e.getStatus()));
+    }
+
+    @Test
+    @DisplayName("claim() - should hand out events again once a lease expires")
+    void claim_ShouldReclaimExpiredLeases() {
+        seed();
+        OutboxLeaseManager crashed = new OutboxLeaseManager(outboxRepository, "crashed", -1);
+        OutboxLeaseManager survivor = new OutboxLeaseManager(outboxRepository, "survivor", 30_000);
+
+        assertThat(claim(crashed, BATCH_SIZE)).hasSize(BATCH_SIZE);
+
+        assertThat(claim(survivor, EVENTS)).hasSize(EVENTS);
+    }
+
+    /**
+     * Runs workers that claim, "send" for a fixed time and ack until the outbox
+     * is empty; the send time keeps several leases open at once.
+     */
+    private void drain(int workers, Set<Long> seen, List<Long> duplicates) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < workers; w++) {
+                OutboxLeaseManager leaseManager = new OutboxLeaseManager(outboxRepository, "worker-" + w, 30_000);
+                futures.add(executor.submit(() -> {
+                    List<OutboxEvent> claimed;
+                    while (!(claimed = claim(leaseManager, BATCH_SIZE)).isEmpty()) {
+                        List<Long> ids = claimed.stream().map(OutboxEvent::getId).toList();
+                        for (Long id : ids) {
+                            if (!seen.add(id)) {
+                                synchronized (duplicates) {
+                                    duplicates.add(id);
+                                }
+                            }
+                        }
+                        Thread.sleep(SEND_MILLIS);
+                        outboxRepository.markSent(ids, leaseManager.getNodeId(), Instant.now());
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    // lease managers built here are not proxied, so run each claim in its own transaction
+    private List<OutboxEvent> claim(OutboxLeaseManager leaseManager, int limit) {
+        return new TransactionTemplate(transactionManager).execute(status -> leaseManager.claim(limit));
+    }
+
+    private void seed() {
+        List<OutboxEvent> events = new ArrayList<>();
+        for (int i = 0; i < EVENTS; i++) {
+            OutboxEvent event = new OutboxEvent();
+            event.setEventId("event-" + i);
+            event.setEventType("SCORE CREATED");
+            event.setAggregateType("SCORE");
+            event.setAggregateId(String.valueOf(i));
+            event.setPayload("{}".getBytes());
+            events.add(event);
+        }
+        outboxRepository.saveAll(events);
+    }
+}
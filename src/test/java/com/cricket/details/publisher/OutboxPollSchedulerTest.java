@@ -0,0 +1,49 @@
+package com.cricket.details.publisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxPollSchedulerTest {
+
+    private final OutboxPollScheduler scheduler;
+
+    OutboxPollSchedulerTest(@Mock OutboxPublisher outboxPublisher,
+            @Mock TaskScheduler taskScheduler) {
+        when(outboxPublisher.getBatchSize()).thenReturn(20);
+        this.scheduler = new OutboxPollScheduler(outboxPublisher, taskScheduler, 100, 1_000);
+    }
+
+    @Test
+    @DisplayName("nextDelay() - should poll again immediately while pages come back full")
+    void nextDelay_ShouldBeZero_WhenPageFull() {
+        assertThat(scheduler.nextDelay(20)).isZero();
+        assertThat(scheduler.nextDelay(20)).isZero();
+    }
+
+    @Test
+    @DisplayName("nextDelay() - should back off exponentially up to the maximum when idle")
+    void nextDelay_ShouldBackOff_WhenIdle() {
+        assertThat(scheduler.nextDelay(0)).isEqualTo(200);
+        assertThat(scheduler.nextDelay(0)).isEqualTo(400);
+        assertThat(scheduler.nextDelay(0)).isEqualTo(800);
+        assertThat(scheduler.nextDelay(0)).isEqualTo(1_000);
+        assertThat(scheduler.nextDelay(0)).isEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("nextDelay() - should reset to the minimum once events show up again")
+    void nextDelay_ShouldReset_WhenPagePartial() {
+        scheduler.nextDelay(0);
+        scheduler.nextDelay(0);
+
+        assertThat(scheduler.nextDelay(5)).isEqualTo(100);
+    }
+}
@@ -0,0 +1,124 @@
+package com.cricket.details.publisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.SendResult;
+
+import com.cricket.details.model.OutboxEvent;
+
+class OutboxPublishLanesTest {
+
+    private final OutboxPublishLanes lanes = new OutboxPublishLanes(4, 1, false);
+
+    @AfterEach
+    void tearDown() {
+        lanes.shutdown();
+    }
+
+    @Test
+    @DisplayName("sendAll() - should keep claim order for each aggregate")
+    void sendAll_ShouldKeepOrderPerAggregate() {
+        Map<String, List<Long>> sentByKey = new ConcurrentHashMap<>();
+        List<OutboxEvent> events = new ArrayList<>();
+        for (long id = 1; id <= 200; id++) {
+            events.add(event(id, "agg-" + (id % 7)));
+        }
+
+        List<CompletableFuture<SendResult<String, byte[]>>> futures = lanes.sendAll(events, event -> {
+            sentByKey.computeIfAbsent(event.getAggregateId(), key -> new CopyOnWriteArrayList<>()).add(event.getId());
+            return CompletableFuture.completedFuture(null);
+        });
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        sentByKey.values().forEach(ids -> assertThat(ids).isSorted());
+        assertThat(sentByKey.values().stream().mapToInt(List::size).sum()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("sendAll() - should not start more sends per lane than the in-flight limit")
+    void sendAll_ShouldRespectInFlightLimit() {
+        List<CompletableFuture<SendResult<String, byte[]>>> pending = new CopyOnWriteArrayList<>();
+
+        lanes.sendAll(List.of(event(1L, "a"), event(2L, keyOnSameLaneAs("a"))), event -> {
+            CompletableFuture<SendResult<String, byte[]>> ack = new CompletableFuture<>();
+            pending.add(ack);
+            return ack;
+        });
+
+        await().untilAsserted(() -> assertThat(pending).hasSize(1));
+        pending.get(0).complete(null);
+        await().untilAsserted(() -> assertThat(pending).hasSize(2));
+    }
+
+    @Test
+    @DisplayName("sendAll() - should hold back an aggregate's events after one of them failed")
+    void sendAll_ShouldHoldBackAfterFailure() {
+        List<Long> attempted = new CopyOnWriteArrayList<>();
+
+        List<CompletableFuture<SendResult<String, byte[]>>> futures = lanes.sendAll(
+                List.of(event(1L, "a"), event(2L, "a")), event -> {
+                    attempted.add(event.getId());
+                    return CompletableFuture.failedFuture(new IllegalStateException("broker down"));
+                });
+
+        await().until(() -> futures.stream().allMatch(CompletableFuture::isDone));
+        assertThat(attempted).containsExactly(1L);
+        assertThat(futures.get(1).exceptionNow()).isInstanceOf(OutboxPublishLanes.HeldBackException.class);
+    }
+
+    @Test
+    @DisplayName("sendAll() - should hold back an aggregate's next event until the previous send is acknowledged")
+    void sendAll_ShouldHoldBackAfterLateFailure() {
+        OutboxPublishLanes wideLanes = new OutboxPublishLanes(1, 5, false);
+        List<Long> attempted = new CopyOnWriteArrayList<>();
+        List<CompletableFuture<SendResult<String, byte[]>>> pending = new CopyOnWriteArrayList<>();
+        try {
+            List<CompletableFuture<SendResult<String, byte[]>>> futures = wideLanes.sendAll(
+                    List.of(event(1L, "a"), event(2L, "a"), event(3L, "b")), event -> {
+                        attempted.add(event.getId());
+                        CompletableFuture<SendResult<String, byte[]>> ack = new CompletableFuture<>();
+                        pending.add(ack);
+                        return ack;
+                    });
+
+            await().untilAsserted(() -> assertThat(attempted).containsExactly(1L, 3L));
+            pending.get(0).completeExceptionally(new IllegalStateException("broker down"));
+            pending.get(1).complete(null);
+
+            await().until(() -> futures.stream().allMatch(CompletableFuture::isDone));
+            assertThat(attempted).containsExactly(1L, 3L);
+            assertThat(futures.get(1).exceptionNow()).isInstanceOf(OutboxPublishLanes.HeldBackException.class);
+            assertThat(futures.get(2)).isCompleted();
+        } finally {
+            wideLanes.shutdown();
+        }
+    }
+
+    private String keyOnSameLaneAs(String aggregateId) {
+        int lane = lanes.laneOf(aggregateId);
+        for (int i = 0;; i++) {
+            String candidate = "k" + i;
+            if (!candidate.equals(aggregateId) && lanes.laneOf(candidate) == lane) {
+                return candidate;
+            }
+        }
+    }
+
+    private static OutboxEvent event(Long id, String aggregateId) {
+        OutboxEvent event = new OutboxEvent();
+        event.setId(id);
+        event.setAggregateId(aggregateId);
+        return event;
+    }
+}
@@ -0,0 +1,183 @@
+package com.cricket.details.publisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.SendResult;
+
+import com.cricket.details.model.OutboxEvent;
+import com.cricket.details.repository.OutboxRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxPublisherTest {
+
+    private final OutboxRepository outboxRepository;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final OutboxLeaseManager outboxLeaseManager;
+    private final OutboxPublisher outboxPublisher;
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // records handed to the producer, in send order
+    private final List<ProducerRecord<String, byte[]>> sent = Collections.synchronizedList(new ArrayList<>());
+
+    OutboxPublisherTest(@Mock OutboxRepository outboxRepository,
+            @Mock KafkaTemplate<String, byte[]> kafkaTemplate) {
+        this.outboxRepository = outboxRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.outboxLeaseManager = new OutboxLeaseManager(outboxRepository, "node-1", 30_000);
+        this.outboxPublisher = new OutboxPublisher(outboxRepository, outboxLeaseManager,
+                new OutboxRetryBackoff(1_000, 60_000), new OutboxPublishLanes(4, 5, false),
+                new OutboxMetrics(outboxRepository, meterRegistry), kafkaTemplate, "main", "dlq", 2, 20, true, 1_000);
+    }
+
+    @Test
+    @DisplayName("publishBatch() - should update each outcome with one bulk statement")
+    void publishBatch_ShouldBulkUpdateStatuses() {
+        OutboxEvent ok = event(1L, "a", 0);
+        OutboxEvent retry = event(2L, "b", 0);
+        OutboxEvent exhausted = event(3L, "c", 2);
+        failOnMainTopic(Set.of("b", "c"));
+
+        outboxPublisher.publishBatch(List.of(ok, retry, exhausted));
+
+        verify(outboxRepository).markSent(eq(List.of(1L)), eq("node-1"), any());
+        verify(outboxRepository).markForRetry(eq(List.of(2L)), eq("node-1"), any(), any());
+        verify(outboxRepository).markFailed(eq(List.of(3L)), eq("node-1"), any());
+        verify(outboxRepository, never()).findById(any());
+        assertThat(sent).filteredOn(r -> r.topic().equals("dlq")).extracting(ProducerRecord::key)
+                .containsExactly("c");
+        assertThat(meterRegistry.get("outbox.publish.sent").tag("topic", "main").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("outbox.publish.retries").tag("topic", "main").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("outbox.publish.dlq").tag("topic", "dlq").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("outbox.publish.latency").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("publishBatch() - should hold back later events of an aggregate whose earlier event failed")
+    void publishBatch_ShouldHoldBackEventsBehindFailure() {
+        OutboxEvent first = event(1L, "a", 0);
+        OutboxEvent second = event(2L, "a", 0);
+        OutboxEvent other = event(3L, "b", 0);
+        failOnMainTopic(Set.of("a"));
+
+        outboxPublisher.publishBatch(List.of(first, second, other));
+
+        ArgumentCaptor<Instant> retryAt = ArgumentCaptor.forClass(Instant.class);
+        verify(outboxRepository).markForRetry(eq(List.of(1L)), eq("node-1"), any(), retryAt.capture());
+        verify(outboxRepository).reschedule(List.of(2L), "node-1", retryAt.getValue());
+        verify(outboxRepository).markSent(eq(List.of(3L)), eq("node-1"), any());
+        assertThat(sent).extracting(ProducerRecord::key).containsExactlyInAnyOrder("a", "b");
+    }
+
+    @Test
+    @DisplayName("publishBatch() - should send the payload bytes with their content type header")
+    void publishBatch_ShouldSendContentTypeHeader() {
+        OutboxEvent event = event(1L, "a", 0);
+        event.setContentType("application/vnd.cricket.score+binary");
+        failOnMainTopic(Set.of());
+
+        outboxPublisher.publishBatch(List.of(event));
+
+        ProducerRecord<String, byte[]> record = sent.get(0);
+        assertThat(record.value()).isEqualTo("payload-a".getBytes());
+        assertThat(new String(record.headers().lastHeader(KafkaHeaders.CONTENT_TYPE).value()))
+                .isEqualTo("application/vnd.cricket.score+binary");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("publishBatch() - should count a DLQ send that throws instead of propagating it")
+    void publishBatch_ShouldRecordDlqSendFailure() {
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenAnswer(invocation -> {
+            ProducerRecord<String, byte[]> record = invocation.getArgument(0);
+            if (record.topic().equals("dlq")) {
+                throw new IllegalStateException("producer closed");
+            }
+            return failed();
+        });
+
+        outboxPublisher.publishBatch(List.of(event(1L, "a", 2)));
+
+        verify(outboxRepository).markFailed(eq(List.of(1L)), eq("node-1"), any());
+        assertThat(meterRegistry.get("outbox.publish.failed").tag("topic", "dlq").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("publishBatch() - should reschedule sends still pending at the timeout without spending an attempt")
+    void publishBatch_ShouldWithdrawUnsentEvents_WhenSendTimesOut() {
+        OutboxPublishLanes narrowLanes = new OutboxPublishLanes(1, 1, false);
+        OutboxPublisher publisher = new OutboxPublisher(outboxRepository, outboxLeaseManager,
+                new OutboxRetryBackoff(1_000, 60_000), narrowLanes, new OutboxMetrics(outboxRepository, meterRegistry),
+                kafkaTemplate, "main", "dlq", 0, 20, true, 200);
+        CompletableFuture<SendResult<String, byte[]>> ack = new CompletableFuture<>();
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenAnswer(invocation -> {
+            sent.add(invocation.getArgument(0));
+            return ack;
+        });
+        try {
+            // the first send holds the lane's only slot past the timeout, the second never gets one
+            publisher.publishBatch(List.of(event(1L, "a", 0), event(2L, "b", 0)));
+
+            verify(outboxRepository).reschedule(eq(List.of(1L, 2L)), eq("node-1"), any());
+            verify(outboxRepository, never()).markForRetry(any(), any(), any(), any());
+            verify(outboxRepository, never()).markFailed(any(), any(), any());
+
+            ack.complete(null);
+            await().during(Duration.ofMillis(300)).atMost(Duration.ofSeconds(2))
+                    .until(() -> sent.size() == 1);
+            assertThat(sent).filteredOn(r -> r.topic().equals("dlq")).isEmpty();
+        } finally {
+            narrowLanes.shutdown();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void failOnMainTopic(Set<String> failingKeys) {
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenAnswer(invocation -> {
+            ProducerRecord<String, byte[]> record = invocation.getArgument(0);
+            sent.add(record);
+            return record.topic().equals("main") && failingKeys.contains(record.key())
+                    ? failed()
+                    : CompletableFuture.completedFuture(null);
+        });
+    }
+
+    private static OutboxEvent event(Long id, String aggregateId, int retryCount) {
+        OutboxEvent event = new OutboxEvent();
+        event.setId(id);
+        event.setAggregateId(aggregateId);
+        event.setPayload(("payload-" + aggregateId).getBytes());
+        event.setRetryCount(retryCount);
+        event.setCreatedAt(Instant.now());
+        return event;
+    }
+
+    private static CompletableFuture<SendResult<String, byte[]>> failed() {
+        return CompletableFuture.failedFuture(new IllegalStateException("broker down"));
+    }
+}
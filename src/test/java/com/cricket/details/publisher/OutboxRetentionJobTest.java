@@ -0,0 +1,84 @@
+package com.cricket.details.publisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.cricket.details.model.OutboxEvent;
+import com.cricket.details.repository.OutboxRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxRetentionJobTest {
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @TempDir
+    Path archiveDir;
+
+    @Test
+    @DisplayName("purge() - should archive and delete expired rows in bounded batches and keep the rest")
+    void purge_ShouldRemoveOnlyExpiredRows() throws IOException {
+        Instant old = Instant.now().minus(Duration.ofDays(30));
+        for (int i = 0; i < 25; i++) {
+            outboxRepository.save(event("old-sent-" + i, "SENT", old));
+        }
+        outboxRepository.save(event("recent-sent", "SENT", Instant.now()));
+        outboxRepository.save(event("old-failed", "FAILED", Instant.now().minus(Duration.ofDays(3))));
+        outboxRepository.save(event("pending", "PENDING", old));
+
+        OutboxRetentionJob job = new OutboxRetentionJob(outboxRepository,
+                new OutboxArchiveWriter(new ObjectMapper().findAndRegisterModules(), archiveDir.toString()),
+                Duration.ofDays(1).toMillis(), Duration.ofDays(7).toMillis(), 10, 20, true);
+        job.purge();
+
+        assertThat(outboxRepository.findAll()).extracting(OutboxEvent::getEventId)
+                .containsExactlyInAnyOrder("recent-sent", "old-failed", "pending");
+        assertThat(archivedLines()).hasSize(25);
+
+        outboxRepository.deleteAll();
+    }
+
+    private List<String> archivedLines() throws IOException {
+        try (Stream<Path> files = Files.list(archiveDir)) {
+            Path file = files.findFirst().orElseThrow();
+            try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+                return new String(in.readAllBytes()).lines().toList();
+            }
+        }
+    }
+
+    private static OutboxEvent event(String eventId, String status, Instant at) {
+        OutboxEvent event = new OutboxEvent();
+        event.setEventId(eventId);
+        event.setEventType("SCORE CREATED");
+        event.setAggregateType("SCORE");
+        event.setAggregateId(eventId);
+        event.setPayload("{}".getBytes());
+        event.setStatus(status);
+        event.setCreatedAt(at);
+        event.setLastAttemptAt(at);
+        if ("SENT".equals(status)) {
+            event.setSentAt(at);
+        }
+        return event;
+    }
+}
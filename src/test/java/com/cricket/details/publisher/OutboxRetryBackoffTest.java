@@ -0,0 +1,29 @@
+package com.cricket.details.publisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OutboxRetryBackoffTest {
+
+    private final OutboxRetryBackoff backoff = new OutboxRetryBackoff(1_000, 8_000);
+
+    @Test
+    @DisplayName("delayFor() - should double per attempt with up to half of it as jitter")
+    void delayFor_ShouldGrowExponentially() {
+        for (int i = 0; i < 100; i++) {
+            assertThat(backoff.delayFor(1).toMillis()).isBetween(500L, 1_000L);
+            assertThat(backoff.delayFor(2).toMillis()).isBetween(1_000L, 2_000L);
+            assertThat(backoff.delayFor(3).toMillis()).isBetween(2_000L, 4_000L);
+        }
+    }
+
+    @Test
+    @DisplayName("delayFor() - should never exceed the configured maximum")
+    void delayFor_ShouldBeCapped() {
+        for (int attempt = 4; attempt < 100; attempt++) {
+            assertThat(backoff.delayFor(attempt).toMillis()).isBetween(4_000L, 8_000L);
+        }
+    }
+}
@@ -8,12 +8,14 @@ import com.cricket.details.model.AuthResponse;
 import com.cricket.details.model.User;
 import com.cricket.details.repository.UserRepository;
 import com.cricket.details.service.impl.AuthServiceImpl;
+import com.cricket.details.service.impl.LoginMessageCache;
 import com.cricket.details.util.JwtUtil;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
@@ -27,17 +29,22 @@ import static org.mockito.Mockito.*;
 class AuthServiceImplTest {
 
     private final UserRepository userRepository;
+    private final UserLookupService userLookupService;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
     private final AuthServiceImpl authService;
 
     AuthServiceImplTest(@Mock UserRepository userRepository,
+            @Mock UserLookupService userLookupService,
             @Mock PasswordEncoder passwordEncoder,
-            @Mock JwtUtil jwtUtil) {
+            @Mock JwtUtil jwtUtil,
+            @Mock LoginMessageCache loginMessageCache) {
         this.userRepository = userRepository;
+        this.userLookupService = userLookupService;
         this.passwordEncoder = passwordEncoder;
         this.jwtUtil = jwtUtil;
-        this.authService = new AuthServiceImpl(userRepository, passwordEncoder, jwtUtil);
+        this.authService = new AuthServiceImpl(userRepository, userLookupService, passwordEncoder, jwtUtil,
+                loginMessageCache);
     }
 
     @Test
@@ -47,7 +54,7 @@ class AuthServiceImplTest {
         AuthRequest request = new AuthRequest("newuser", "password123");
         when(userRepository.findByUsername("newuser")).thenReturn(Optional.empty());
         when(passwordEncoder.encode("password123")).thenReturn("encodedPass");
-        when(jwtUtil.generateToken("newuser")).thenReturn("mock-jwt");
+        when(jwtUtil.generateToken(any(User.class))).thenReturn("mock-jwt");
 
         // Act
         AuthResponse response = authService.register(request);
@@ -55,6 +62,26 @@ class AuthServiceImplTest {
         // Assert
         assertThat(response.token()).isEqualTo("mock-jwt");
         verify(userRepository).save(any(User.class));
+        verify(userLookupService).evict("newuser");
+    }
+
+    @Test
+    @DisplayName("register() - should map a unique index violation to UserAlreadyExistsException")
+    void register_ShouldThrow_WhenConcurrentRegistrationWins() {
+        // Arrange
+        AuthRequest request = new AuthRequest("racer", "password123");
+        when(userRepository.findByUsername("racer")).thenReturn(Optional.empty());
+        when(passwordEncoder.encode("password123")).thenReturn("encodedPass");
+        when(userRepository.save(any(User.class)))
+                .thenThrow(new DataIntegrityViolationException("idx_users_username"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> authService.register(request))
+                .isInstanceOf(UserAlreadyExistsException.class)
+                .hasMessage("Username already taken");
+
+        verify(userLookupService, never()).evict(any());
+        verify(jwtUtil, never()).generateToken(any());
     }
 
     @Test
@@ -79,15 +106,38 @@ class AuthServiceImplTest {
         AuthRequest request = new AuthRequest("validUser", "rawPass");
         User user = new User(1L, "validUser", "encodedPass", "ROLE_USER", true);
 
-        when(userRepository.findByUsername("validUser")).thenReturn(Optional.of(user));
+        when(userLookupService.findByUsername("validUser")).thenReturn(Optional.of(user));
         when(passwordEncoder.matches("rawPass", "encodedPass")).thenReturn(true);
-        when(jwtUtil.generateToken("validUser")).thenReturn("login-jwt");
+        when(jwtUtil.generateToken(user)).thenReturn("login-jwt");
+
+        // Act
+        AuthResponse response = authService.login(request);
+
+        // Assert
+        assertThat(response.token()).isEqualTo("login-jwt");
+    }
+
+    @Test
+    @DisplayName("login() - should re-hash a password stored with an older strength and evict the cached user")
+    void login_ShouldRehash_WhenEncodingIsOutdated() {
+        // Arrange
+        AuthRequest request = new AuthRequest("validUser", "rawPass");
+        User user = new User(1L, "validUser", "weakHash", "ROLE_USER", true);
+
+        when(userLookupService.findByUsername("validUser")).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("rawPass", "weakHash")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("weakHash")).thenReturn(true);
+        when(passwordEncoder.encode("rawPass")).thenReturn("strongHash");
+        when(userRepository.updatePasswordHash(1L, "weakHash", "strongHash")).thenReturn(1);
+        when(jwtUtil.generateToken(user)).thenReturn("login-jwt");
 
         // Act
         AuthResponse response = authService.login(request);
 
         // Assert
         assertThat(response.token()).isEqualTo("login-jwt");
+        verify(userRepository).updatePasswordHash(1L, "weakHash", "strongHash");
+        verify(userLookupService).evict("validUser");
     }
 
     @Test
@@ -95,7 +145,7 @@ class AuthServiceImplTest {
     void login_ShouldThrow_WhenUserNotFound() {
         // Arrange
         AuthRequest request = new AuthRequest("ghost", "any");
-        when(userRepository.findByUsername("ghost")).thenReturn(Optional.empty());
+        when(userLookupService.findByUsername("ghost")).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThatThrownBy(() -> authService.login(request))
@@ -110,7 +160,7 @@ class AuthServiceImplTest {
         AuthRequest request = new AuthRequest("user", "wrongPass");
         User user = new User(1L, "user", "encodedPass", "ROLE_USER", true);
 
-        when(userRepository.findByUsername("user")).thenReturn(Optional.of(user));
+        when(userLookupService.findByUsername("user")).thenReturn(Optional.of(user));
         when(passwordEncoder.matches("wrongPass", "encodedPass")).thenReturn(false);
 
         // Act & Assert
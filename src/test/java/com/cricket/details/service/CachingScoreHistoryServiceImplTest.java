@@ -0,0 +1,71 @@
+package com.cricket.details.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.cricket.details.model.ScoreHistory;
+import com.cricket.details.model.ScoreResponse;
+import com.cricket.details.model.ScoresCreated;
+import com.cricket.details.service.impl.CachingScoreHistoryServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class CachingScoreHistoryServiceImplTest {
+
+    private final ScoreService scoreService;
+    private final CachingScoreHistoryServiceImpl historyService;
+    private final AtomicInteger reads = new AtomicInteger();
+
+    CachingScoreHistoryServiceImplTest(@Mock ScoreService scoreService) throws Exception {
+        this.scoreService = scoreService;
+        this.historyService = new CachingScoreHistoryServiceImpl(scoreService, 100, 1 << 20, 60_000);
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write(("[" + reads.incrementAndGet() + "]").getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(scoreService).streamScores(eq("kohli"), any());
+    }
+
+    @Test
+    @DisplayName("getHistory() - should serialize once per version and keep the version stable between writes")
+    void getHistory_ShouldServeRepeatsFromCache() throws Exception {
+        String version = historyService.currentVersion("kohli");
+
+        ScoreHistory first = historyService.getHistory("kohli");
+        ScoreHistory second = historyService.getHistory("kohli");
+
+        assertThat(first.version()).isEqualTo(version);
+        assertThat(second.version()).isEqualTo(version);
+        assertThat(second.json()).isEqualTo(first.json());
+        verify(scoreService, times(1)).streamScores(eq("kohli"), any());
+    }
+
+    @Test
+    @DisplayName("onScoresCreated() - should move the user to a new version and serialize it afresh")
+    void onScoresCreated_ShouldInvalidate() throws Exception {
+        ScoreHistory before = historyService.getHistory("kohli");
+        String otherUser = historyService.currentVersion("rohit");
+
+        historyService.onScoresCreated(new ScoresCreated(List.of(new ScoreResponse(1L, "M1", 40, "Win", "kohli"))));
+        ScoreHistory after = historyService.getHistory("kohli");
+
+        assertThat(after.version()).isNotEqualTo(before.version());
+        assertThat(new String(after.json(), StandardCharsets.UTF_8)).isEqualTo("[2]");
+        assertThat(historyService.currentVersion("rohit")).isEqualTo(otherUser);
+        verify(scoreService, times(2)).streamScores(eq("kohli"), any());
+    }
+}
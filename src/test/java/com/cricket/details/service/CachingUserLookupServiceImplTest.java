@@ -0,0 +1,66 @@
+package com.cricket.details.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.cricket.details.model.User;
+import com.cricket.details.repository.UserRepository;
+import com.cricket.details.service.impl.CachingUserLookupServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class CachingUserLookupServiceImplTest {
+
+    private final UserRepository userRepository;
+    private final CachingUserLookupServiceImpl userLookupService;
+
+    CachingUserLookupServiceImplTest(@Mock UserRepository userRepository) {
+        this.userRepository = userRepository;
+        this.userLookupService = new CachingUserLookupServiceImpl(userRepository, 100, 60_000);
+    }
+
+    @Test
+    @DisplayName("findByUsername() - should query the repository once for repeated lookups")
+    void findByUsername_ShouldServeRepeatsFromCache() {
+        User user = new User(1L, "cached", "encodedPass", "ROLE_USER", true);
+        when(userRepository.findByUsername("cached")).thenReturn(Optional.of(user));
+
+        assertThat(userLookupService.findByUsername("cached")).contains(user);
+        assertThat(userLookupService.findByUsername("cached")).contains(user);
+
+        verify(userRepository, times(1)).findByUsername("cached");
+    }
+
+    @Test
+    @DisplayName("findByUsername() - should not cache unknown users")
+    void findByUsername_ShouldNotCacheMisses() {
+        when(userRepository.findByUsername("ghost")).thenReturn(Optional.empty());
+
+        assertThat(userLookupService.findByUsername("ghost")).isEmpty();
+        assertThat(userLookupService.findByUsername("ghost")).isEmpty();
+
+        verify(userRepository, times(2)).findByUsername("ghost");
+    }
+
+    @Test
+    @DisplayName("evict() - should reload the user on the next lookup")
+    void evict_ShouldForceReload() {
+        User user = new User(1L, "evicted", "encodedPass", "ROLE_USER", true);
+        when(userRepository.findByUsername("evicted")).thenReturn(Optional.of(user));
+
+        userLookupService.findByUsername("evicted");
+        userLookupService.evict("evicted");
+        userLookupService.findByUsername("evicted");
+
+        verify(userRepository, times(2)).findByUsername("evicted");
+    }
+}
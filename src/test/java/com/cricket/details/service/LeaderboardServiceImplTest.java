@@ -0,0 +1,93 @@
+package com.cricket.details.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.cricket.details.model.LeaderboardEntry;
+import com.cricket.details.model.LeaderboardRank;
+import com.cricket.details.model.ScoreResponse;
+import com.cricket.details.repository.ScoreRepository;
+import com.cricket.details.service.impl.LeaderboardServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class LeaderboardServiceImplTest {
+
+    private static final PageRequest BOARD = PageRequest.of(0, 3);
+
+    private final ScoreRepository scoreRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final LeaderboardServiceImpl leaderboardService;
+
+    LeaderboardServiceImplTest(@Mock ScoreRepository scoreRepository, @Mock TransactionTemplate transactionTemplate) {
+        this.scoreRepository = scoreRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.leaderboardService = new LeaderboardServiceImpl(scoreRepository, transactionTemplate, 3, 100, 60_000);
+    }
+
+    @Test
+    @DisplayName("getTop() - should rank the best innings per match and overall")
+    void getTop_ShouldRankPerMatchAndOverall() {
+        when(scoreRepository.findTopByMatch("M1", BOARD)).thenReturn(List.of(
+                score(2L, "M1", 88, "virat"),
+                score(1L, "M1", 45, "rohit")));
+        when(scoreRepository.findTopByMatch("M9", BOARD)).thenReturn(List.of());
+
+        assertThat(leaderboardService.getTop("M1", 10)).extracting(LeaderboardEntry::username)
+                .containsExactly("virat", "rohit");
+        leaderboardService.record(List.of(
+                score(3L, "M2", 120, "rohit"),
+                score(4L, "M1", 12, "dhoni"),
+                score(5L, "M1", 45, "gill")));
+
+        assertThat(leaderboardService.getTop("M1", 10)).extracting(LeaderboardEntry::username)
+                .containsExactly("virat", "rohit", "gill");
+        assertThat(leaderboardService.getTop(null, 2)).extracting(LeaderboardEntry::runs)
+                .containsExactly(120, 45);
+        assertThat(leaderboardService.getTop("M9", 10)).isEmpty();
+        verify(scoreRepository).findTopByMatch("M1", BOARD);
+    }
+
+    @Test
+    @DisplayName("getTop() - should refill a match board from the score table once it has expired")
+    void getTop_ShouldRefillExpiredMatch() {
+        // boards expire as soon as they are read
+        LeaderboardServiceImpl uncached = new LeaderboardServiceImpl(scoreRepository, transactionTemplate, 3, 100, 0);
+        when(scoreRepository.findTopByMatch("M1", BOARD)).thenReturn(List.of(score(1L, "M1", 45, "rohit")));
+
+        assertThat(uncached.getTop("M1", 10)).extracting(LeaderboardEntry::username).containsExactly("rohit");
+        uncached.record(List.of(score(2L, "M1", 88, "virat")));
+        assertThat(uncached.getTop("M1", 10)).extracting(LeaderboardEntry::username).containsExactly("rohit");
+
+        verify(scoreRepository, times(2)).findTopByMatch("M1", BOARD);
+    }
+
+    @Test
+    @DisplayName("getRank() - should report the best position of a user and null outside the board")
+    void getRank_ShouldFindBestPosition() {
+        when(scoreRepository.findTopByMatch("M1", BOARD)).thenReturn(List.of(
+                score(1L, "M1", 30, "rohit"),
+                score(2L, "M1", 70, "rohit"),
+                score(3L, "M1", 90, "virat"),
+                score(4L, "M1", 10, "dhoni"),
+                score(5L, "M1", 50, "gill")));
+
+        assertThat(leaderboardService.getRank("rohit", "M1")).isEqualTo(new LeaderboardRank("rohit", "M1", 2, 70));
+        assertThat(leaderboardService.getRank("dhoni", "M1").rank()).isNull();
+    }
+
+    private static ScoreResponse score(Long id, String match, int runs, String username) {
+        return new ScoreResponse(id, match, runs, "Win", username);
+    }
+}
@@ -0,0 +1,112 @@
+package com.cricket.details.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.cricket.details.client.NotificationClient;
+import com.cricket.details.service.impl.LoginMessageCache;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+
+@ExtendWith(MockitoExtension.class)
+class LoginMessageCacheTest {
+
+    private final NotificationClient notificationClient;
+    private final LoginMessageCache loginMessageCache;
+
+    LoginMessageCacheTest(@Mock NotificationClient notificationClient) {
+        this.notificationClient = notificationClient;
+        this.loginMessageCache = new LoginMessageCache(notificationClient, 50, 50, "Welcome back", false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        loginMessageCache.shutdown();
+    }
+
+    @Test
+    @DisplayName("get() - should coalesce a burst of cold callers into one upstream call")
+    void get_ShouldCoalesceConcurrentMisses() throws Exception {
+        CountDownLatch upstreamEntered = new CountDownLatch(1);
+        CountDownLatch releaseUpstream = new CountDownLatch(1);
+        when(notificationClient.fetchLoginMessage()).thenAnswer(invocation -> {
+            upstreamEntered.countDown();
+            releaseUpstream.await(5, TimeUnit.SECONDS);
+            return "Match day!";
+        });
+
+        ExecutorService callers = Executors.newFixedThreadPool(32);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                results.add(callers.submit(loginMessageCache::get));
+            }
+            assertThat(upstreamEntered.await(5, TimeUnit.SECONDS)).isTrue();
+            releaseUpstream.countDown();
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("Match day!");
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+        verify(notificationClient, times(1)).fetchLoginMessage();
+    }
+
+    @Test
+    @DisplayName("get() - should serve the stale message while refreshing it in the background")
+    void get_ShouldServeStaleWhileRevalidating() throws Exception {
+        when(notificationClient.fetchLoginMessage()).thenReturn("first", "second");
+        assertThat(loginMessageCache.get()).isEqualTo("first");
+
+        Thread.sleep(80);
+
+        assertThat(loginMessageCache.get()).isEqualTo("first");
+        await().atMost(Duration.ofSeconds(2)).until(() -> loginMessageCache.get().equals("second"));
+        verify(notificationClient, times(2)).fetchLoginMessage();
+    }
+
+    @Test
+    @DisplayName("get() - should keep the last good message while the circuit is open")
+    void get_ShouldKeepLastGoodMessage_WhenUpstreamFails() throws Exception {
+        when(notificationClient.fetchLoginMessage())
+                .thenReturn("last good")
+                .thenThrow(CallNotPermittedException.createCallNotPermittedException(
+                        CircuitBreaker.ofDefaults("notificationCB")));
+        assertThat(loginMessageCache.get()).isEqualTo("last good");
+
+        Thread.sleep(80);
+        assertThat(loginMessageCache.get()).isEqualTo("last good");
+
+        await().atMost(Duration.ofSeconds(2))
+                .untilAsserted(() -> verify(notificationClient, times(2)).fetchLoginMessage());
+        assertThat(loginMessageCache.get()).isEqualTo("last good");
+    }
+
+    @Test
+    @DisplayName("get() - should fall back to the default message before any fetch has succeeded")
+    void get_ShouldReturnDefault_WhenNothingFetchedYet() {
+        when(notificationClient.fetchLoginMessage()).thenThrow(new IllegalStateException("down"));
+
+        assertThat(loginMessageCache.get()).isEqualTo("Welcome back");
+    }
+}
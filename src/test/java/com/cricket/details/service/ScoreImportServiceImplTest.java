@@ -0,0 +1,197 @@
+package com.cricket.details.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.cricket.details.codec.JsonScoreEventCodec;
+import com.cricket.details.codec.ScoreEventCodecs;
+import com.cricket.details.exception.InvalidScoreBatchException;
+import com.cricket.details.exception.RateLimitExceededException;
+import com.cricket.details.model.Score;
+import com.cricket.details.model.ScoreImportError;
+import com.cricket.details.model.ScoreImportFormat;
+import com.cricket.details.model.ScoreImportReport;
+import com.cricket.details.model.User;
+import com.cricket.details.repository.OutboxRepository;
+import com.cricket.details.repository.ScoreRepository;
+import com.cricket.details.service.impl.ScoreBatchWriter;
+import com.cricket.details.service.impl.ScoreImportServiceImpl;
+import com.cricket.details.service.impl.ScoreWriteRateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.validation.Validation;
+
+@ExtendWith(MockitoExtension.class)
+class ScoreImportServiceImplTest {
+
+    private final ScoreRepository scoreRepository;
+    private final ScoreImportServiceImpl scoreImportService;
+
+    // scores handed to each saveAll call, one entry per committed chunk
+    private final List<List<Score>> chunks = new ArrayList<>();
+
+    ScoreImportServiceImplTest(@Mock UserLookupService userLookupService,
+            @Mock ScoreRepository scoreRepository,
+            @Mock OutboxRepository outboxRepository,
+            @Mock ApplicationEventPublisher eventPublisher,
+            @Mock UserScoreStatsService userScoreStatsService,
+            @Mock PlatformTransactionManager transactionManager) {
+        this.scoreRepository = scoreRepository;
+        ObjectMapper objectMapper = new ObjectMapper();
+        ScoreBatchWriter scoreBatchWriter = new ScoreBatchWriter(scoreRepository, outboxRepository,
+                new ScoreEventCodecs(List.of(new JsonScoreEventCodec(objectMapper)), "json"), eventPublisher,
+                Validation.buildDefaultValidatorFactory().getValidator(), userScoreStatsService);
+        // one import per user before the bucket runs dry
+        this.scoreImportService = new ScoreImportServiceImpl(userLookupService, scoreBatchWriter,
+                new ScoreWriteRateLimiter(0.001, 1, 0.001, 1, 100, 60_000),
+                new TransactionTemplate(transactionManager), objectMapper, 2, 2);
+
+        User user = new User(1L, "test", "Test@123", "ROLE_USER", true);
+        when(userLookupService.findByUsername("test")).thenReturn(Optional.of(user));
+    }
+
+    @Test
+    @DisplayName("importScores() - should commit NDJSON rows in chunks and report invalid rows")
+    void importScores_ShouldCommitInChunks() {
+        stubSaves(Integer.MAX_VALUE);
+
+        ScoreImportReport report = scoreImportService.importScores("test", body("""
+                {"runs": 10, "result": "Win", "match": "M1"}
+                {"runs": 20, "result": "Loss", "match": "M2"}
+                {"runs": -1, "result": "Win", "match": "M3"}
+
+                {"runs": 40, "result": "Win", "match": "M4"}
+                not json
+                {"runs": 50, "result": "Draw", "match": "M5"}
+                """), ScoreImportFormat.NDJSON, 0);
+
+        assertThat(report.completed()).isTrue();
+        assertThat(report.rowsRead()).isEqualTo(6);
+        assertThat(report.imported()).isEqualTo(4);
+        assertThat(report.rejected()).isEqualTo(2);
+        assertThat(report.lastCommittedRow()).isEqualTo(6);
+        assertThat(report.errors()).extracting(ScoreImportError::row).containsExactly(3L, 5L);
+        assertThat(chunks).extracting(List::size).containsExactly(2, 2);
+    }
+
+    @Test
+    @DisplayName("importScores() - should read CSV by header and skip rows up to resumeAfter")
+    void importScores_ShouldResumeCsv() {
+        stubSaves(Integer.MAX_VALUE);
+
+        ScoreImportReport report = scoreImportService.importScores("test", body("""
+                match,runs,result
+                M1,10,Win
+                "IND, AUS",20,Loss
+                """), ScoreImportFormat.CSV, 1);
+
+        assertThat(report.completed()).isTrue();
+        assertThat(report.imported()).isEqualTo(1);
+        assertThat(chunks.get(0).get(0).getMatch()).isEqualTo("IND, AUS");
+        assertThat(chunks.get(0).get(0).getRuns()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("importScores() - should reject a CSV body whose header lacks the score columns")
+    void importScores_ShouldRejectCsvWithoutHeader() {
+        InputStream csv = body("""
+                M1,10,Win
+                """);
+
+        assertThatThrownBy(() -> scoreImportService.importScores("test", csv, ScoreImportFormat.CSV, 0))
+                .isInstanceOf(InvalidScoreBatchException.class)
+                .hasMessageContaining("runs, result and match");
+        verify(scoreRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("importScores() - should stop at a failed chunk and report where to resume")
+    void importScores_ShouldReportResumePoint_WhenChunkFails() {
+        stubSaves(1);
+
+        ScoreImportReport report = scoreImportService.importScores("test", body("""
+                {"runs": 10, "result": "Win", "match": "M1"}
+                {"runs": 20, "result": "Win", "match": "M2"}
+                {"runs": 30, "result": "Win", "match": "M3"}
+                {"runs": 40, "result": "Win", "match": "M4"}
+                {"runs": 50, "result": "Win", "match": "M5"}
+                """), ScoreImportFormat.NDJSON, 0);
+
+        assertThat(report.completed()).isFalse();
+        assertThat(report.imported()).isEqualTo(2);
+        assertThat(report.lastCommittedRow()).isEqualTo(2);
+        assertThat(report.failure()).isNotBlank();
+        verify(scoreRepository, times(2)).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("importScores() - should cap the error report and flag it as truncated")
+    void importScores_ShouldCapErrors() {
+        ScoreImportReport report = scoreImportService.importScores("test", body("""
+                {"runs": -1, "result": "Win", "match": "M1"}
+                {"runs": -2, "result": "Win", "match": "M2"}
+                {"runs": -3, "result": "Win", "match": "M3"}
+                """), ScoreImportFormat.NDJSON, 0);
+
+        assertThat(report.rejected()).isEqualTo(3);
+        assertThat(report.errors()).hasSize(2);
+        assertThat(report.errorsTruncated()).isTrue();
+    }
+
+    @Test
+    @DisplayName("importScores() - should count each import against the user's write rate limit")
+    void importScores_ShouldRateLimitPerImport() {
+        stubSaves(Integer.MAX_VALUE);
+        String rows = """
+                {"runs": 10, "result": "Win", "match": "M1"}
+                {"runs": 20, "result": "Win", "match": "M2"}
+                {"runs": 30, "result": "Win", "match": "M3"}
+                """;
+
+        assertThat(scoreImportService.importScores("test", body(rows), ScoreImportFormat.NDJSON, 0).completed())
+                .isTrue();
+        InputStream second = body(rows);
+
+        assertThatThrownBy(() -> scoreImportService.importScores("test", second, ScoreImportFormat.NDJSON, 0))
+                .isInstanceOf(RateLimitExceededException.class);
+        verify(scoreRepository, times(2)).saveAll(anyList());
+    }
+
+    private void stubSaves(int successfulChunks) {
+        when(scoreRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            if (chunks.size() >= successfulChunks) {
+                throw new DataAccessResourceFailureException("database unavailable");
+            }
+            List<Score> scores = new ArrayList<>(invocation.getArgument(0));
+            scores.forEach(score -> score.setId((long) score.getRuns()));
+            chunks.add(scores);
+            return scores;
+        });
+    }
+
+    private static InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,95 @@
+package com.cricket.details.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Optional;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.cricket.details.model.Score;
+import com.cricket.details.model.ScorePage;
+import com.cricket.details.model.User;
+import com.cricket.details.repository.ScoreRepository;
+import com.cricket.details.repository.ScoreViewRepository;
+import com.cricket.details.service.impl.ScoreBatchWriter;
+import com.cricket.details.service.impl.ScoreServiceImpl;
+import com.cricket.details.service.impl.ScoreWriteRateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ScoreServiceImplQueryCountTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ScoreRepository scoreRepository;
+
+    private ScoreServiceImpl scoreService;
+    private Statistics statistics;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persist(new User(null, "heavy", "secret", "ROLE_USER", true));
+        UserLookupService userLookupService = mock(UserLookupService.class);
+        when(userLookupService.findByUsername("heavy")).thenReturn(Optional.of(user));
+        scoreService = new ScoreServiceImpl(userLookupService, scoreRepository, mock(ScoreViewRepository.class),
+                mock(ScoreBatchWriter.class), mock(ScoreWriteRateLimiter.class), mock(TransactionTemplate.class),
+                new ObjectMapper(), 500, 200, "primary");
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 25, 150 })
+    @DisplayName("getScores() - should run one statement per page whatever the page size")
+    void getScores_ShouldRunOneStatement(int rows) {
+        seed(rows);
+
+        ScorePage page = scoreService.getScores("heavy", null, 200);
+
+        assertThat(page.items()).hasSize(rows);
+        assertThat(page.items()).allMatch(score -> "heavy".equals(score.username()));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 150 })
+    @DisplayName("streamScores() - should run one statement and load no entities")
+    void streamScores_ShouldRunOneStatement(int rows) throws Exception {
+        seed(rows);
+
+        scoreService.streamScores("heavy", new ByteArrayOutputStream());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    private void seed(int rows) {
+        for (int i = 0; i < rows; i++) {
+            entityManager.persist(new Score(null, i, "Win", "M" + i, user));
+        }
+        // start from an empty persistence context so nothing is served from it
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+}
@@ -1,49 +1,201 @@
 package com.cricket.details.service;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayOutputStream;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
 
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.cricket.details.codec.JsonScoreEventCodec;
+import com.cricket.details.codec.ScoreEventCodecs;
+import com.cricket.details.exception.InvalidScoreBatchException;
+import com.cricket.details.exception.RateLimitExceededException;
+import com.cricket.details.exception.UserNotFoundException;
+import com.cricket.details.model.OutboxEventsCreated;
 import com.cricket.details.model.Score;
+import com.cricket.details.model.ScoreBatchItemResult;
+import com.cricket.details.model.ScoreBatchResponse;
+import com.cricket.details.model.ScorePage;
 import com.cricket.details.model.ScoreRequest;
+import com.cricket.details.model.ScoreResponse;
 import com.cricket.details.model.User;
 import com.cricket.details.repository.OutboxRepository;
 import com.cricket.details.repository.ScoreRepository;
-import com.cricket.details.repository.UserRepository;
+import com.cricket.details.repository.ScoreViewRepository;
+import com.cricket.details.service.impl.ScoreBatchWriter;
 import com.cricket.details.service.impl.ScoreServiceImpl;
+import com.cricket.details.service.impl.ScoreWriteRateLimiter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import jakarta.validation.Validation;
+
 @ExtendWith(MockitoExtension.class)
 public class ScoreServiceImplTest {
 
-    private final UserRepository userRepository;
+    private final UserLookupService userLookupService;
     private final ScoreRepository scoreRepository;
     private final OutboxRepository outboxRepository;
-    private final ObjectMapper objectMapper;
+    private final ScoreEventCodecs scoreEventCodecs;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
     private final ScoreServiceImpl scoreServiceImpl;
 
-    ScoreServiceImplTest(@Mock UserRepository userRepository,
+    ScoreServiceImplTest(@Mock UserLookupService userLookupService,
             @Mock ScoreRepository scoreRepository,
             @Mock OutboxRepository outboxRepository,
-            @Mock ObjectMapper objectMapper) {
-        this.scoreServiceImpl = new ScoreServiceImpl(userRepository, scoreRepository, outboxRepository, objectMapper);
+            @Mock ApplicationEventPublisher eventPublisher,
+            @Mock UserScoreStatsService userScoreStatsService,
+            @Mock ScoreViewRepository scoreViewRepository,
+            @Mock PlatformTransactionManager transactionManager) {
+        this.userLookupService = userLookupService;
+        this.scoreRepository = scoreRepository;
+        this.outboxRepository = outboxRepository;
+        this.scoreEventCodecs = new ScoreEventCodecs(List.of(new JsonScoreEventCodec(new ObjectMapper())), "json");
+        this.eventPublisher = eventPublisher;
+        this.transactionManager = transactionManager;
+        ScoreBatchWriter scoreBatchWriter = new ScoreBatchWriter(scoreRepository, outboxRepository, scoreEventCodecs,
+                eventPublisher, Validation.buildDefaultValidatorFactory().getValidator(), userScoreStatsService);
+        this.scoreServiceImpl = new ScoreServiceImpl(userLookupService, scoreRepository, scoreViewRepository,
+                scoreBatchWriter, new ScoreWriteRateLimiter(1, 2, 1, 2, 100, 60_000),
+                new TransactionTemplate(transactionManager), new ObjectMapper(), 3, 2, "primary");
     }
 
     @Test
     void test_AddScore() throws Exception {
         String userName = "test";
         User user = new User(1L, "test", "Test@123", "ROLE_USER", true);
-        when(userRepository.findByUsername(userName)).thenReturn(Optional.of(user));
+        when(userLookupService.findByUsername(userName)).thenReturn(Optional.of(user));
+        when(scoreRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(outboxRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
 
         ScoreRequest scoreRequest = new ScoreRequest(8, "Win", "G2G");
         scoreServiceImpl.addScore("test", scoreRequest);
 
-        verify(scoreRepository).save(any(Score.class));
+        verify(scoreRepository).saveAll(anyList());
+        verify(eventPublisher).publishEvent(any(OutboxEventsCreated.class));
+    }
+
+    @Test
+    @DisplayName("addScores() - should save valid items in one batch and report invalid ones")
+    void addScores_ShouldReportPerItemResults() {
+        User user = new User(1L, "test", "Test@123", "ROLE_USER", true);
+        when(userLookupService.findByUsername("test")).thenReturn(Optional.of(user));
+        AtomicLong ids = new AtomicLong();
+        when(scoreRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Score> scores = invocation.getArgument(0);
+            scores.forEach(score -> score.setId(ids.incrementAndGet()));
+            return scores;
+        });
+        when(outboxRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ScoreBatchResponse response = scoreServiceImpl.addScores("test", List.of(
+                new ScoreRequest(8, "Win", "G2G"),
+                new ScoreRequest(-1, "", "G2G"),
+                new ScoreRequest(40, "Loss", "AUS")));
+
+        assertThat(response.created()).isEqualTo(2);
+        assertThat(response.rejected()).isEqualTo(1);
+        assertThat(response.items()).extracting(ScoreBatchItemResult::scoreId).containsExactly(1L, null, 2L);
+        assertThat(response.items().get(1).errors()).containsExactly("result:Result cannot be blank",
+                "runs:Runs must be >= 0");
+        verify(userLookupService, times(1)).findByUsername("test");
+        verify(scoreRepository, times(1)).saveAll(anyList());
+        verify(outboxRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("addScore() - should reject writes beyond the user's burst before opening a transaction")
+    void addScore_ShouldRateLimitPerUser() {
+        User noisy = new User(1L, "noisy", "Test@123", "ROLE_USER", true);
+        User quiet = new User(2L, "quiet", "Test@123", "ROLE_USER", true);
+        when(userLookupService.findByUsername("noisy")).thenReturn(Optional.of(noisy));
+        when(userLookupService.findByUsername("quiet")).thenReturn(Optional.of(quiet));
+        when(scoreRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(outboxRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        ScoreRequest request = new ScoreRequest(8, "Win", "G2G");
+
+        scoreServiceImpl.addScore("noisy", request);
+        scoreServiceImpl.addScore("noisy", request);
+
+        assertThatThrownBy(() -> scoreServiceImpl.addScore("noisy", request))
+                .isInstanceOf(RateLimitExceededException.class)
+                .satisfies(e -> assertThat(((RateLimitExceededException) e).getRetryAfter()).isPositive());
+        scoreServiceImpl.addScore("quiet", request);
+        verify(scoreRepository, times(3)).saveAll(anyList());
+        verify(transactionManager, times(3)).getTransaction(any());
+    }
+
+    @Test
+    @DisplayName("addScores() - should reject batches above the configured size")
+    void addScores_ShouldRejectOversizedBatch() {
+        ScoreRequest request = new ScoreRequest(8, "Win", "G2G");
+
+        assertThatThrownBy(() -> scoreServiceImpl.addScores("test", List.of(request, request, request, request)))
+                .isInstanceOf(InvalidScoreBatchException.class);
+        verify(scoreRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("getScores() - should return the cursor of the next page only when more rows exist")
+    void getScores_ShouldReturnNextCursor() {
+        User user = new User(1L, "test", "Test@123", "ROLE_USER", true);
+        when(userLookupService.findByUsername("test")).thenReturn(Optional.of(user));
+        when(scoreRepository.findPageByUsername("test", null, PageRequest.of(0, 3)))
+                .thenReturn(List.of(score(9L, user), score(7L, user), score(4L, user)));
+        when(scoreRepository.findPageByUsername("test", 7L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(score(4L, user)));
+
+        ScorePage first = scoreServiceImpl.getScores("test", null, 50);
+        ScorePage last = scoreServiceImpl.getScores("test", first.nextCursor(), 50);
+
+        assertThat(first.items()).extracting(ScoreResponse::id).containsExactly(9L, 7L);
+        assertThat(first.nextCursor()).isEqualTo(7L);
+        assertThat(last.items()).extracting(ScoreResponse::id).containsExactly(4L);
+        assertThat(last.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("streamScores() - should write every streamed row as one JSON array")
+    void streamScores_ShouldWriteJsonArray() throws Exception {
+        User user = new User(1L, "test", "Test@123", "ROLE_USER", true);
+        when(scoreRepository.streamByUsername("test")).thenReturn(Stream.of(score(2L, user), score(1L, user)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        scoreServiceImpl.streamScores("test", out);
+
+        ScoreResponse[] written = new ObjectMapper().readValue(out.toByteArray(), ScoreResponse[].class);
+        assertThat(written).extracting(ScoreResponse::id).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("requireUser() - should throw UserNotFoundException for an unknown user")
+    void requireUser_ShouldThrow_WhenUserMissing() {
+        when(userLookupService.findByUsername("ghost")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> scoreServiceImpl.requireUser("ghost"))
+                .isInstanceOf(UserNotFoundException.class);
+    }
+
+    private static ScoreResponse score(Long id, User user) {
+        return new ScoreResponse(id, "M" + id, id.intValue() * 10, "Win", user.getUsername());
     }
 }
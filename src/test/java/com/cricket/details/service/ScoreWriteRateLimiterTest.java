@@ -0,0 +1,56 @@
+package com.cricket.details.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.cricket.details.exception.RateLimitExceededException;
+import com.cricket.details.model.User;
+import com.cricket.details.service.impl.ScoreWriteRateLimiter;
+
+class ScoreWriteRateLimiterTest {
+
+    @Test
+    @DisplayName("acquire() - should limit each of many users independently under concurrency")
+    void acquire_ShouldIsolateUsersAtHighCardinality() throws Exception {
+        int users = 20_000;
+        int burst = 3;
+        ScoreWriteRateLimiter limiter = new ScoreWriteRateLimiter(0.001, burst, 0.001, burst, 2L * users, 60_000);
+        AtomicInteger granted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<?>> callers = new ArrayList<>();
+            for (int t = 0; t < 16; t++) {
+                callers.add(executor.submit(() -> {
+                    // every thread hits every user, so each bucket is contended
+                    for (int u = 0; u < users; u++) {
+                        try {
+                            limiter.acquire(new User((long) u, "user" + u, "secret", "ROLE_USER", true));
+                            granted.incrementAndGet();
+                        } catch (RateLimitExceededException e) {
+                            rejected.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> caller : callers) {
+                caller.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(granted.get()).isEqualTo(users * burst);
+        assertThat(rejected.get()).isEqualTo(users * (16 - burst));
+    }
+}
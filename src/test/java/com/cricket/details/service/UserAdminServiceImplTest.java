@@ -0,0 +1,61 @@
+package com.cricket.details.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.cricket.details.exception.UserNotFoundException;
+import com.cricket.details.model.UserAccountUpdate;
+import com.cricket.details.repository.UserRepository;
+import com.cricket.details.service.impl.UserAdminServiceImpl;
+import com.cricket.details.util.PrincipalRecheckRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class UserAdminServiceImplTest {
+
+    private final UserRepository userRepository;
+    private final UserLookupService userLookupService;
+    private final PrincipalRecheckRegistry principalRecheckRegistry = new PrincipalRecheckRegistry(60_000L);
+    private final UserAdminServiceImpl userAdminService;
+
+    UserAdminServiceImplTest(@Mock UserRepository userRepository, @Mock UserLookupService userLookupService) {
+        this.userRepository = userRepository;
+        this.userLookupService = userLookupService;
+        this.userAdminService = new UserAdminServiceImpl(userRepository, userLookupService, principalRecheckRegistry);
+    }
+
+    @Test
+    @DisplayName("updateAccount() - should store the change, evict the cached user and force a token re-check")
+    void updateAccount_ShouldRequireRecheck() {
+        Date issuedBefore = new Date(System.currentTimeMillis() - 1_000);
+        when(userRepository.updateAccountState("kohli", false, "ROLE_USER")).thenReturn(1);
+
+        userAdminService.updateAccount("kohli", new UserAccountUpdate(false, "ROLE_USER"));
+
+        verify(userLookupService).evict("kohli");
+        assertThat(principalRecheckRegistry.isRecheckRequired("kohli", issuedBefore)).isTrue();
+    }
+
+    @Test
+    @DisplayName("updateAccount() - should throw UserNotFoundException when no account was updated")
+    void updateAccount_ShouldThrow_WhenUserMissing() {
+        when(userRepository.updateAccountState("ghost", false, "ROLE_USER")).thenReturn(0);
+
+        assertThatThrownBy(() -> userAdminService.updateAccount("ghost", new UserAccountUpdate(false, "ROLE_USER")))
+                .isInstanceOf(UserNotFoundException.class);
+
+        verify(userLookupService, never()).evict(any());
+        assertThat(principalRecheckRegistry.isRecheckRequired("ghost", new Date())).isFalse();
+    }
+}
@@ -0,0 +1,117 @@
+package com.cricket.details.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.cricket.details.model.Score;
+import com.cricket.details.model.User;
+import com.cricket.details.model.UserScoreStats;
+import com.cricket.details.model.UserScoreStatsResponse;
+import com.cricket.details.repository.ScoreRepository;
+import com.cricket.details.repository.ScoreViewRepository;
+import com.cricket.details.repository.UserRepository;
+import com.cricket.details.repository.UserScoreStatsRepository;
+import com.cricket.details.service.impl.UserScoreStatsRebuildJob;
+import com.cricket.details.service.impl.UserScoreStatsServiceImpl;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserScoreStatsServiceImplTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ScoreRepository scoreRepository;
+
+    @Autowired
+    private UserScoreStatsRepository userScoreStatsRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private UserScoreStatsServiceImpl statsService;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        statsService = new UserScoreStatsServiceImpl(userScoreStatsRepository, userRepository,
+                mock(UserLookupService.class), mock(ScoreViewRepository.class), "primary");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        userScoreStatsRepository.deleteAll();
+        scoreRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("record() - should create statistics on the first score and increment them afterwards")
+    void record_ShouldCreateThenIncrement() {
+        User user = userRepository.save(new User(null, "kohli", "secret", "ROLE_USER", true));
+
+        record(user, List.of(score(user, 40, "Win"), score(user, 12, "Loss")));
+        record(user, List.of(score(user, 101, "won"), score(user, 0, "No result")));
+
+        UserScoreStatsResponse stats = statsService.getStats("kohli");
+        assertThat(stats.innings()).isEqualTo(4);
+        assertThat(stats.totalRuns()).isEqualTo(153);
+        assertThat(stats.bestRuns()).isEqualTo(101);
+        assertThat(stats.average()).isEqualTo(38.25);
+        assertThat(stats.wins()).isEqualTo(2);
+        assertThat(stats.losses()).isEqualTo(1);
+        assertThat(stats.otherResults()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("rebuild() - should recompute every user's statistics from the score table in parallel ranges")
+    void rebuild_ShouldRecomputeFromScores() {
+        for (int u = 0; u < 7; u++) {
+            User user = userRepository.save(new User(null, "user" + u, "secret", "ROLE_USER", true));
+            for (int runs = 1; runs <= u; runs++) {
+                scoreRepository.save(new Score(null, runs * 10, runs % 2 == 0 ? "Win" : "Draw", "M" + runs, user));
+            }
+        }
+        // drifted row that the rebuild must overwrite
+        User drifted = userRepository.findByUsername("user3").orElseThrow();
+        UserScoreStats stale = new UserScoreStats(drifted.getId(), drifted.getUsername());
+        stale.setInnings(99);
+        userScoreStatsRepository.save(stale);
+
+        int rebuilt = new UserScoreStatsRebuildJob(userRepository, scoreRepository, userScoreStatsRepository,
+                transactionTemplate, 2, 3, false, false).rebuild();
+
+        assertThat(rebuilt).isEqualTo(7);
+        assertThat(userScoreStatsRepository.count()).isEqualTo(7);
+        UserScoreStatsResponse user3 = statsService.getStats("user3");
+        assertThat(user3.innings()).isEqualTo(3);
+        assertThat(user3.totalRuns()).isEqualTo(60);
+        assertThat(user3.bestRuns()).isEqualTo(30);
+        assertThat(user3.wins()).isEqualTo(1);
+        assertThat(user3.draws()).isEqualTo(2);
+        assertThat(statsService.getStats("user0").innings()).isZero();
+    }
+
+    private void record(User user, List<Score> scores) {
+        transactionTemplate.executeWithoutResult(status -> statsService.record(user, scores));
+    }
+
+    private static Score score(User user, int runs, String result) {
+        return new Score(null, runs, result, "M", user);
+    }
+}
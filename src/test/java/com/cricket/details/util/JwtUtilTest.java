@@ -0,0 +1,79 @@
+package com.cricket.details.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.cricket.details.model.User;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class JwtUtilTest {
+
+    private static final String SECRET = "test-secret-key-that-is-long-enough-for-hs256-signing";
+
+    private final JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000L, 100);
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    JwtUtilTest() {
+        jwtUtil.bindTo(registry);
+    }
+
+    @Test
+    @DisplayName("extractAllClaims() - should verify a token once and serve repeats from the cache")
+    void extractAllClaims_ShouldVerifyOnce_WhenTokenRepeated() {
+        String token = jwtUtil.generateToken("cachedUser");
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(jwtUtil.extractUserName(token)).isEqualTo("cachedUser");
+        }
+
+        assertThat(cacheGets("miss")).isEqualTo(1);
+        assertThat(cacheGets("hit")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("extractAllClaims() - should reject tokens signed with another key")
+    void extractAllClaims_ShouldThrow_WhenSignatureInvalid() {
+        JwtUtil otherKey = new JwtUtil("another-secret-key-that-is-long-enough-for-hs256", 60_000L, 100);
+        String forged = otherKey.generateToken("intruder");
+
+        assertThatThrownBy(() -> jwtUtil.extractAllClaims(forged)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> jwtUtil.extractAllClaims(forged)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("extractAllClaims() - should never cache expired tokens")
+    void extractAllClaims_ShouldThrow_WhenTokenExpired() {
+        JwtUtil shortLived = new JwtUtil(SECRET, -1_000L, 100);
+        String expired = shortLived.generateToken("expiredUser");
+
+        assertThatThrownBy(() -> jwtUtil.extractAllClaims(expired)).isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    @DisplayName("generateToken(User) - should embed the claims needed for a stateless principal")
+    void generateToken_ShouldEmbedPrincipalClaims() {
+        User user = new User(7L, "statelessUser", "encodedPass", "ROLE_USER", true);
+
+        Claims claims = jwtUtil.extractAllClaims(jwtUtil.generateToken(user));
+
+        assertThat(jwtUtil.hasPrincipalClaims(claims)).isTrue();
+        assertThat(claims.getSubject()).isEqualTo("statelessUser");
+        assertThat(claims.get(JwtUtil.CLAIM_USER_ID, Long.class)).isEqualTo(7L);
+        assertThat(claims.get(JwtUtil.CLAIM_ROLE, String.class)).isEqualTo("ROLE_USER");
+        assertThat(claims.get(JwtUtil.CLAIM_ENABLED, Boolean.class)).isTrue();
+        assertThat(jwtUtil.hasPrincipalClaims(jwtUtil.extractAllClaims(jwtUtil.generateToken("legacy")))).isFalse();
+    }
+
+    private double cacheGets(String result) {
+        return registry.get("cache.gets").tag("cache", "jwt.verifiedClaims").tag("result", result)
+                .functionCounter().count();
+    }
+}
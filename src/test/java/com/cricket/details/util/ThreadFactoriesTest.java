@@ -0,0 +1,36 @@
+package com.cricket.details.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.ThreadFactory;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ThreadFactoriesTest {
+
+    @Test
+    @DisplayName("named() - should create named virtual threads when virtual threads are enabled")
+    void named_ShouldCreateVirtualThreads() {
+        ThreadFactory factory = ThreadFactories.named("outbox-lane-0-", true);
+
+        Thread first = factory.newThread(() -> {
+        });
+        Thread second = factory.newThread(() -> {
+        });
+
+        assertThat(first.isVirtual()).isTrue();
+        assertThat(first.getName()).isEqualTo("outbox-lane-0-1");
+        assertThat(second.getName()).isEqualTo("outbox-lane-0-2");
+    }
+
+    @Test
+    @DisplayName("named() - should create named platform threads by default")
+    void named_ShouldCreatePlatformThreads() {
+        Thread thread = ThreadFactories.named("stats-rebuild-", false).newThread(() -> {
+        });
+
+        assertThat(thread.isVirtual()).isFalse();
+        assertThat(thread.getName()).isEqualTo("stats-rebuild-1");
+    }
+}
@@ -0,0 +1,93 @@
+package com.cricket.details.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TopKBoardTest {
+
+    private static final Comparator<Long> DESCENDING = Comparator.reverseOrder();
+
+    @Test
+    @DisplayName("offer() - should keep only the best entries up to capacity")
+    void offer_ShouldPruneToCapacity() {
+        TopKBoard<Long> board = new TopKBoard<>(3, DESCENDING);
+
+        LongStream.of(5, 1, 9, 7, 3, 8).forEach(board::offer);
+
+        assertThat(board.top(10)).containsExactly(9L, 8L, 7L);
+        assertThat(board.size()).isEqualTo(3);
+        assertThat(board.offer(2L)).isFalse();
+        assertThat(board.rankOf(v -> v == 8L)).isEqualTo(2);
+        assertThat(board.rankOf(v -> v == 5L)).isZero();
+    }
+
+    @Test
+    @DisplayName("offer() - should end with the exact top K under many concurrent writers and readers")
+    void offer_ShouldStayExact_UnderConcurrency() throws Exception {
+        int capacity = 100;
+        int writers = 8;
+        int readers = 8;
+        int offersPerWriter = 50_000;
+        TopKBoard<Long> board = new TopKBoard<>(capacity, DESCENDING);
+        ExecutorService executor = Executors.newFixedThreadPool(writers + readers);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        List<Future<List<Long>>> writerTasks = new ArrayList<>();
+        List<Future<Boolean>> readerTasks = new ArrayList<>();
+
+        for (int w = 0; w < writers; w++) {
+            long offset = w;
+            writerTasks.add(executor.submit(() -> {
+                start.await();
+                // distinct values across writers: writer w offers w, w + writers, w + 2 * writers, ...
+                List<Long> offered = new ArrayList<>(offersPerWriter);
+                for (int i = 0; i < offersPerWriter; i++) {
+                    long value = offset + (long) ThreadLocalRandom.current().nextInt(offersPerWriter) * writers;
+                    board.offer(value);
+                    offered.add(value);
+                }
+                return offered;
+            }));
+        }
+        for (int r = 0; r < readers; r++) {
+            readerTasks.add(executor.submit(() -> {
+                start.await();
+                boolean ordered = true;
+                while (writing.get()) {
+                    List<Long> top = board.top(10);
+                    ordered &= top.stream().sorted(DESCENDING).toList().equals(top);
+                }
+                return ordered;
+            }));
+        }
+
+        start.countDown();
+        List<Long> offered = new ArrayList<>();
+        for (Future<List<Long>> task : writerTasks) {
+            offered.addAll(task.get());
+        }
+        writing.set(false);
+        for (Future<Boolean> task : readerTasks) {
+            assertThat(task.get()).isTrue();
+        }
+        executor.shutdown();
+
+        List<Long> expected = offered.stream().distinct().sorted(DESCENDING).limit(capacity).toList();
+        assertThat(board.top(capacity)).isEqualTo(expected);
+        assertThat(board.size()).isEqualTo(capacity);
+        assertThat(board.top(capacity + 50)).hasSize(capacity);
+    }
+}